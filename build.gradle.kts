@@ -6,6 +6,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     id("com.diffplug.spotless") version "7.2.1"
     id("com.github.sherter.google-java-format") version "0.9"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "br.com.joaobarbosa"
@@ -62,6 +63,7 @@ repositories {
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("com.auth0:java-jwt:4.5.0")
@@ -73,7 +75,7 @@ dependencies {
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     developmentOnly("org.springframework.boot:spring-boot-docker-compose")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql") // CopyManager na carga de campanhas de cupons
     annotationProcessor("org.projectlombok:lombok")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -81,3 +83,129 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// Benchmarks JMH em src/jmh/java. Rodar com: ./gradlew jmh
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("src/jmh/baseline.json")
+
+// Por padrão só os benchmarks em memória, que são os da baseline. Os de banco sobem a aplicação
+// inteira contra o Postgres configurado e gravam nele: rode com ./gradlew jmh -PjmhDatabase
+val jmhDatabase = providers.gradleProperty("jmhDatabase").isPresent
+val jmhInMemoryBenchmarks =
+    listOf(
+        "MoneyBenchmark",
+        "OrderSubtotalBenchmark",
+        "OrderTotalBenchmark",
+        "TokenVerificationBenchmark",
+        "CodeGeneratorBenchmark",
+        "SeatFinderBenchmark",
+        "SeatHoldBenchmark",
+        "MovieSearchBenchmark",
+        "LoggingThroughputBenchmark")
+val jmhDatabaseBenchmarks =
+    listOf("OrderBatchInsertBenchmark", "CouponRedemptionBenchmark", "CouponCampaignLoadBenchmark")
+
+// Baseline e gate só valem para o conjunto padrão; falha antes de rodar qualquer benchmark.
+gradle.taskGraph.whenReady {
+    val baselineTasks = setOf("jmhUpdateBaseline", "jmhCheckRegression")
+    if (jmhDatabase && allTasks.any { it.name in baselineTasks }) {
+        throw GradleException(
+            "A baseline cobre só os benchmarks em memória: rode sem -PjmhDatabase")
+    }
+}
+
+jmh {
+    includes =
+        (if (jmhDatabase) jmhDatabaseBenchmarks else jmhInMemoryBenchmarks).map { "\\.$it\\." }
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = jmhResults
+}
+
+// Score de cada benchmark (nome + parâmetros) no results.json do JMH: modo e valor principal
+@Suppress("UNCHECKED_CAST")
+fun readJmhScores(results: File): Map<String, Pair<String, Double>> {
+    val runs = groovy.json.JsonSlurper().parse(results) as List<Map<String, Any?>>
+    return runs.associate { run ->
+        val params =
+            (run["params"] as Map<String, Any?>?)
+                ?.entries
+                ?.sortedBy { it.key }
+                ?.joinToString(",") { "${it.key}=${it.value}" }
+                .orEmpty()
+        val metric = run["primaryMetric"] as Map<String, Any?>
+        "${run["benchmark"]}($params)" to
+            ((run["mode"] as String) to (metric["score"] as Number).toDouble())
+    }
+}
+
+// Grava o último ./gradlew jmh como baseline. Rode na máquina de referência e versione o arquivo.
+tasks.register("jmhUpdateBaseline") {
+    group = "benchmark"
+    description = "Grava os resultados do último jmh em src/jmh/baseline.json"
+    mustRunAfter("jmh")
+    doLast {
+        val scores =
+            readJmhScores(jmhResults.get().asFile)
+                .mapValues { (_, run) -> mapOf("mode" to run.first, "score" to run.second) }
+                .toSortedMap()
+        jmhBaseline.asFile.writeText(
+            groovy.json.JsonOutput.prettyPrint(groovy.json.JsonOutput.toJson(scores)) + "\n")
+    }
+}
+
+// ./gradlew jmhCheckRegression [-PjmhRegressionThreshold=0.15] [-PjmhAllowEmptyBaseline]
+// Roda o jmh antes, então nunca compara resultados velhos. Benchmark sem baseline falha:
+// rode jmhUpdateBaseline depois de criar ou mudar parâmetros de um benchmark.
+tasks.register("jmhCheckRegression") {
+    group = "verification"
+    description = "Falha se algum benchmark piorou além do limite em relação à baseline"
+    dependsOn("jmh")
+    val threshold =
+        providers.gradleProperty("jmhRegressionThreshold").map(String::toDouble).orElse(0.15)
+    val allowEmptyBaseline = providers.gradleProperty("jmhAllowEmptyBaseline").isPresent
+    doLast {
+        @Suppress("UNCHECKED_CAST")
+        val baseline =
+            groovy.json.JsonSlurper().parse(jmhBaseline.asFile) as Map<String, Map<String, Any?>>
+        if (baseline.isEmpty()) {
+            if (!allowEmptyBaseline) {
+                throw GradleException(
+                    "Baseline vazia em ${jmhBaseline.asFile}: rode jmhUpdateBaseline na máquina " +
+                        "de referência ou passe -PjmhAllowEmptyBaseline")
+            }
+            logger.warn("Baseline vazia: nada a comparar")
+            return@doLast
+        }
+        val limit = threshold.get()
+        val regressions = mutableListOf<String>()
+        val missing = mutableListOf<String>()
+        readJmhScores(jmhResults.get().asFile).forEach { (name, run) ->
+            val (mode, score) = run
+            val expected = baseline[name]
+            if (expected == null || expected["mode"] != mode) {
+                missing += name
+                return@forEach
+            }
+            val base = (expected["score"] as Number).toDouble()
+            // thrpt: maior é melhor; avgt/sample/ss: menor é melhor
+            val change = if (mode == "thrpt") (base - score) / base else (score - base) / base
+            if (change > limit) {
+                regressions += "%s: %.3f -> %.3f (%+.1f%%)".format(name, base, score, change * 100)
+            }
+        }
+        if (missing.isNotEmpty()) {
+            throw GradleException(
+                "Benchmarks sem baseline (ou com modo diferente), rode jmhUpdateBaseline:\n" +
+                    missing.joinToString("\n"))
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException(
+                "Benchmarks pioraram mais de %.0f%%:\n".format(limit * 100) +
+                    regressions.joinToString("\n"))
+        }
+    }
+}
@@ -0,0 +1,52 @@
+// Rajada de 1k logins/s enquanto outro cenário lê /movies (endpoint sem autenticação).
+// O objetivo é que o p95 de /movies continue baixo mesmo com o pool de BCrypt saturado:
+// logins além da capacidade devem receber 503 rápido, não enfileirar no Tomcat.
+//
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=admin -e PASSWORD=admin load-tests/auth-burst.js
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+
+export const options = {
+  scenarios: {
+    logins: {
+      executor: "constant-arrival-rate",
+      exec: "login",
+      rate: 1000,
+      timeUnit: "1s",
+      duration: "60s",
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+    browse: {
+      executor: "constant-arrival-rate",
+      exec: "browse",
+      rate: 200,
+      timeUnit: "1s",
+      duration: "60s",
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+  },
+  thresholds: {
+    "http_req_duration{scenario:browse}": ["p(95)<200", "p(99)<500"],
+    "checks{scenario:browse}": ["rate>0.99"],
+    // 503 é a resposta esperada sob saturação; tempo alto não é.
+    "http_req_duration{scenario:logins}": ["p(99)<6000"],
+  },
+};
+
+export function login() {
+  const res = http.post(
+    `${BASE_URL}/auth/login`,
+    JSON.stringify({ username: __ENV.USERNAME, password: __ENV.PASSWORD }),
+    { headers: { "Content-Type": "application/json" } },
+  );
+  check(res, { "login 200 ou 503": (r) => r.status === 200 || r.status === 503 });
+}
+
+export function browse() {
+  const res = http.get(`${BASE_URL}/movies`);
+  check(res, { "movies 200": (r) => r.status === 200 });
+}
@@ -0,0 +1,24 @@
+-- Tamanho dos índices de ocupação de assentos: chave UUID (seat_id), rótulo (seat_label) e
+-- posição empacotada (seat_position, int de 4 bytes). Rode depois da subida da aplicação, quando o
+-- SeatPositionBackfill já preencheu seat_position:
+--   docker compose exec -T db psql -U user -d db < load-tests/seat-index-size.sql
+-- Os dois primeiros índices são criados só para a comparação e removidos no fim.
+
+create index if not exists tmp_order_items_room_seat_id on order_items (room_id, seat_id);
+create index if not exists tmp_order_items_room_seat_label on order_items (room_id, seat_label);
+analyze order_items;
+
+select indexrelname as indice,
+       pg_size_pretty(pg_relation_size(indexrelid)) as tamanho,
+       pg_relation_size(indexrelid) as bytes,
+       round(pg_relation_size(indexrelid)::numeric / nullif(count_rows.n, 0), 1) as bytes_por_item
+from pg_stat_user_indexes,
+     (select count(*) as n from order_items) as count_rows
+where relname = 'order_items'
+  and indexrelname in ('tmp_order_items_room_seat_id',
+                       'tmp_order_items_room_seat_label',
+                       'idx_order_items_room_seat')
+order by bytes desc;
+
+drop index tmp_order_items_room_seat_id;
+drop index tmp_order_items_room_seat_label;
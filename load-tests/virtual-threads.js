@@ -0,0 +1,39 @@
+// Compara o modo de threads da plataforma com o de virtual threads sob 5k clientes simultâneos.
+// Rode a mesma carga duas vezes e compare http_reqs (vazão) e p(99) de http_req_duration:
+//
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun   ->  k6 run load-tests/virtual-threads.js
+//   VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun   ->  k6 run load-tests/virtual-threads.js
+//
+// As rotas lidas batem no Postgres a cada requisição (JDBC bloqueante).
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+
+export const options = {
+  scenarios: {
+    clients: {
+      executor: "ramping-vus",
+      stages: [
+        { duration: "30s", target: 5000 },
+        { duration: "2m", target: 5000 },
+        { duration: "15s", target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"],
+};
+
+export function setup() {
+  const page = http.get(`${BASE_URL}/movies?size=100`).json();
+  return { movieIds: page && page.items ? page.items.map((m) => m.id) : [] };
+}
+
+export default function (data) {
+  const ids = data.movieIds;
+  const res =
+    ids.length > 0 && Math.random() < 0.5
+      ? http.get(`${BASE_URL}/movies/${ids[Math.floor(Math.random() * ids.length)]}`)
+      : http.get(`${BASE_URL}/movies`);
+  check(res, { "status 200": (r) => r.status === 200 });
+}
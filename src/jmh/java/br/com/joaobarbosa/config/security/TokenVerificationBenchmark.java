@@ -0,0 +1,70 @@
+package br.com.joaobarbosa.config.security;
+
+import br.com.joaobarbosa.modules.users.User;
+import br.com.joaobarbosa.modules.users.UserRole;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Verificação de JWT por requisição: o caminho antigo (Algorithm + JWTVerifier a cada chamada),
+ * o verificador montado uma vez e o TokenService com cache de tokens verificados. Inclui a
+ * geração de token do login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenVerificationBenchmark {
+    private static final String SECRET = "benchmark_secret";
+    private static final String ISSUER = "TicketManagerAPI";
+
+    private TokenService tokenService;
+    private com.auth0.jwt.JWTVerifier sharedVerifier;
+    private String token;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, ISSUER, 3600, 10_000);
+        sharedVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+        token =
+                JWT.create()
+                        .withIssuer(ISSUER)
+                        .withSubject("admin")
+                        .withExpiresAt(Instant.now().plusSeconds(3600))
+                        .sign(Algorithm.HMAC256(SECRET));
+        user = new User("admin", "hash", UserRole.ADMIN);
+    }
+
+    @Benchmark
+    public String rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerifier() {
+        return sharedVerifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String cachedTokenService() {
+        return tokenService.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+}
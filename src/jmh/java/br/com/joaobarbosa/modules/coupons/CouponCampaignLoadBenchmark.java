@@ -0,0 +1,100 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.TicketManagerApplication;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Carga de uma campanha no Postgres local ({@code docker compose up db}; rode com {@code ./gradlew
+ * jmh -PjmhDatabase}). Cada execução é uma campanha inteira; cupons/s = campaignSize / tempo
+ * medido. A meta é passar de 200 mil cupons/s. Os cupons de cada iteração são apagados ao fim dela.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CouponCampaignLoadBenchmark {
+
+    @Param({"1000000"})
+    long campaignSize;
+
+    private ConfigurableApplicationContext context;
+    private CouponCampaignLoader loader;
+    private JdbcTemplate jdbc;
+    private Timestamp iterationStart;
+
+    /** Cupons inseridos e códigos repetidos descartados, somados por iteração. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long inserted;
+        public long duplicates;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inserted = 0;
+            duplicates = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context =
+                new SpringApplicationBuilder(TicketManagerApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties(
+                                "spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=warn")
+                        .run();
+        loader = context.getBean(CouponCampaignLoader.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    // Relógio do banco: é ele que preenche created_at dos cupons da carga.
+    @Setup(Level.Iteration)
+    public void markIterationStart() {
+        iterationStart = jdbc.queryForObject("select clock_timestamp()", Timestamp.class);
+    }
+
+    // Sem isso cada iteração deixaria um milhão de cupons no banco para o warm-up do cache e para
+    // o índice único das execuções seguintes.
+    @TearDown(Level.Iteration)
+    public void deleteCampaign() {
+        jdbc.update("delete from coupons where created_at >= ?", iterationStart);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long loadCampaign(Counters counters) throws SQLException {
+        CampaignProgress progress = new CampaignProgress(campaignSize);
+        loader.load(
+                new CouponCampaign(campaignSize, 12, CouponType.FIXED, Money.ofMinor(1_000)),
+                progress);
+        counters.inserted += progress.getInserted();
+        counters.duplicates += progress.getDuplicates();
+        return progress.getInserted();
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.TicketManagerApplication;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 200 threads disputando 1.000 cupons novos a cada iteração, contra o Postgres local ({@code
+ * docker compose up db}; o pool do Hikari vem do DB_POOL_SIZE; rode com {@code ./gradlew jmh
+ * -PjmhDatabase}). Cada operação tenta resgatar um cupom aleatório com {@link
+ * CouponRepository#claim}. Ao fim da iteração confere que nenhum cupom teve mais de um resgate
+ * vencedor e que o banco marca como resgatados exatamente os que as threads viram vencer; se não,
+ * o benchmark falha. Os cupons da iteração são apagados em seguida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(200)
+public class CouponRedemptionBenchmark {
+    private static final int COUPONS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private CouponRepository couponRepository;
+    private TransactionTemplate transaction;
+
+    private List<UUID> couponIds;
+    private AtomicIntegerArray wins;
+
+    /** Tentativas que resgataram o cupom e que chegaram depois de outro resgate, por iteração. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long redeemed;
+        public long alreadyRedeemed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            redeemed = 0;
+            alreadyRedeemed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context =
+                new SpringApplicationBuilder(TicketManagerApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties(
+                                "spring.jpa.show-sql=false",
+                                "logging.level.org.hibernate.SQL=warn",
+                                "logging.level.org.hibernate.orm.jdbc.bind=warn")
+                        .run();
+        couponRepository = context.getBean(CouponRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @Setup(Level.Iteration)
+    public void createCoupons() {
+        List<Coupon> coupons = new ArrayList<>(COUPONS);
+        for (int i = 0; i < COUPONS; i++) {
+            coupons.add(
+                    Coupon.builder()
+                            .code("BENCH-" + UUID.randomUUID())
+                            .type(CouponType.FIXED)
+                            .value(Money.ofMinor(500))
+                            .isActive(true)
+                            .build());
+        }
+        couponIds = couponRepository.saveAll(coupons).stream().map(Coupon::getId).toList();
+        wins = new AtomicIntegerArray(COUPONS);
+    }
+
+    @Benchmark
+    public int claim(Counters counters) {
+        int index = ThreadLocalRandom.current().nextInt(COUPONS);
+        UUID id = couponIds.get(index);
+        Integer claimed = transaction.execute(status -> couponRepository.claim(id));
+        if (claimed != null && claimed == 1) {
+            wins.incrementAndGet(index);
+            counters.redeemed++;
+        } else {
+            counters.alreadyRedeemed++;
+        }
+        return claimed == null ? 0 : claimed;
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkExactlyOnceAndDelete() {
+        try {
+            checkExactlyOnce();
+        } finally {
+            couponRepository.deleteAllByIdInBatch(couponIds);
+        }
+    }
+
+    private void checkExactlyOnce() {
+        int redeemed = 0;
+        for (int i = 0; i < COUPONS; i++) {
+            if (wins.get(i) > 1) {
+                throw new IllegalStateException("Cupom resgatado " + wins.get(i) + " vezes");
+            }
+            redeemed += wins.get(i);
+        }
+        long inDatabase =
+                couponRepository.findAllById(couponIds).stream()
+                        .filter(coupon -> coupon.getRedeemedAt() != null)
+                        .count();
+        if (inDatabase != redeemed) {
+            throw new IllegalStateException(
+                    "Resgates divergentes: " + redeemed + " vistos, " + inDatabase + " no banco");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
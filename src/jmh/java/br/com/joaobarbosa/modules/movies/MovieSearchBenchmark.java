@@ -0,0 +1,55 @@
+package br.com.joaobarbosa.modules.movies;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Busca no índice com um catálogo sintético de 100 mil títulos (alvo: abaixo de 1 ms). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovieSearchBenchmark {
+    private static final String[] WORDS = {
+        "amor", "guerra", "cidade", "noite", "sertão", "ação", "vingança", "família", "viagem",
+        "mistério", "coração", "destino", "fronteira", "segredo", "estrela", "caminho", "herói",
+        "sombra", "memória", "tempestade", "império", "último", "perdido", "sangue", "liberdade"
+    };
+
+    @Param({"cora", "guerra cida", "vingança no sertão"})
+    String query;
+
+    private MovieSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new MovieSearchIndex();
+        for (int i = 0; i < 100_000; i++) {
+            Movie movie = new Movie();
+            movie.setId(UUID.randomUUID());
+            movie.setTitle(words(random, 2 + random.nextInt(3)) + " " + i);
+            movie.setSynopsis(words(random, 20));
+            index.index(movie);
+        }
+    }
+
+    @Benchmark
+    public List<MovieSearchIndex.Hit> search() {
+        return index.search(query, 10);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        return text.toString().trim();
+    }
+}
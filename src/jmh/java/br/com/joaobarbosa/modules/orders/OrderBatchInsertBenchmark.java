@@ -0,0 +1,165 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.TicketManagerApplication;
+import br.com.joaobarbosa.modules.room.Room;
+import br.com.joaobarbosa.modules.room.RoomRepository;
+import br.com.joaobarbosa.modules.seats.SeatMapService;
+import br.com.joaobarbosa.modules.users.User;
+import br.com.joaobarbosa.modules.users.UserRepository;
+import br.com.joaobarbosa.modules.users.UserRole;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Inserção de pedidos contra o Postgres local ({@code docker compose up db}; rode com {@code
+ * ./gradlew jmh -PjmhDatabase}), sem e com lotes JDBC. Os contadores {@code statements} e {@code
+ * orders} vêm das estatísticas do Hibernate (um statement por lote quando há batching); a
+ * reescrita multi-linha do driver não aparece ali, só no tempo. Usuário, sala e pedidos criados
+ * aqui são apagados pelo próprio benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderBatchInsertBenchmark {
+
+    /** 0 = comportamento anterior (um INSERT por linha, sem reescrita no driver). */
+    @Param({"0", "50"})
+    int batchSize;
+
+    @Param({"4", "40"})
+    int itemsPerOrder;
+
+    @Param({"25"})
+    int ordersPerCall;
+
+    private ConfigurableApplicationContext context;
+    private OrderBulkInsertService bulkInsert;
+    private SeatMapService seatMapService;
+    private JdbcTemplate jdbc;
+    private Statistics statistics;
+    private UUID userId;
+    private Room room;
+
+    /** Statements preparados e pedidos inseridos, somados por iteração. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long statements;
+        public long orders;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            orders = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context =
+                new SpringApplicationBuilder(TicketManagerApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties(
+                                "spring.jpa.show-sql=false",
+                                "logging.level.org.hibernate.SQL=warn",
+                                "logging.level.org.hibernate.orm.jdbc.bind=warn",
+                                "spring.jpa.properties.hibernate.generate_statistics=true",
+                                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                                // a expiração de reservas não tem o que fazer aqui (pedidos PAID)
+                                "app.seats.hold-tick=1h",
+                                "spring.datasource.url=jdbc:postgresql://localhost:5432/db"
+                                        + "?reWriteBatchedInserts="
+                                        + (batchSize > 1))
+                        .run();
+        bulkInsert = context.getBean(OrderBulkInsertService.class);
+        seatMapService = context.getBean(SeatMapService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+        statistics =
+                context.getBean(EntityManagerFactory.class)
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+        userId =
+                context.getBean(UserRepository.class)
+                        .save(new User("bench-" + UUID.randomUUID(), "x", UserRole.USER))
+                        .getId();
+        // uma fileira com um assento por item de cada chamada
+        int seats = ordersPerCall * itemsPerOrder;
+        room =
+                context.getBean(RoomRepository.class)
+                        .save(new Room("bench-" + UUID.randomUUID(), 1, seats));
+    }
+
+    // Apaga os pedidos da chamada e recarrega o mapa da sala (vazio) fora da medição: a próxima
+    // chamada reserva os mesmos assentos.
+    @TearDown(Level.Invocation)
+    public void deleteOrders() {
+        deleteBenchmarkOrders();
+        seatMapService.evict(room.getId());
+        seatMapService.getSeatMap(room);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteBenchmarkOrders();
+        jdbc.update("delete from rooms where id = ?", room.getId());
+        jdbc.update("delete from users where id = ?", userId);
+        context.close();
+    }
+
+    @Benchmark
+    public List<UUID> insertOrders(Counters counters) {
+        List<Order> orders = newOrders();
+        long before = statistics.getPrepareStatementCount();
+        List<UUID> ids = bulkInsert.insertAll(orders);
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        counters.orders += ids.size();
+        return ids;
+    }
+
+    private void deleteBenchmarkOrders() {
+        jdbc.update("delete from order_items where room_id = ?", room.getId());
+        jdbc.update("delete from orders where user_id = ?", userId);
+    }
+
+    private List<Order> newOrders() {
+        UUID roomId = room.getId();
+        List<Order> orders = new ArrayList<>(ordersPerCall);
+        for (int o = 0; o < ordersPerCall; o++) {
+            // PAID reserva os assentos como PENDING, mas não entra na roda de expiração
+            Order order = Order.builder().withUserId(userId).withStatus(OrderStatus.PAID).build();
+            for (int i = 0; i < itemsPerOrder; i++) {
+                order.addItem(
+                        OrderItem.builder()
+                                .roomId(roomId)
+                                .seatId(UUID.randomUUID())
+                                .seatLabel("A" + (o * itemsPerOrder + i + 1))
+                                .isKindHalf(false)
+                                .unitPrice(Money.ofMinor(2_500))
+                                .build());
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+}
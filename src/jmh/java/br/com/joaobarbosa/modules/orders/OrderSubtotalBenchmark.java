@@ -0,0 +1,53 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.shared.value_objects.Money;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Subtotal via MoneyAccumulator vs. o antigo stream().map().reduce(Money::plus). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderSubtotalBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int items;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        order = Order.builder().withId(UUID.randomUUID()).withStatus(OrderStatus.PENDING).build();
+        for (int i = 0; i < items; i++) {
+            order.addItem(
+                    OrderItem.builder()
+                            .seatId(UUID.randomUUID())
+                            .seatLabel("A" + i)
+                            .isKindHalf(random.nextInt(4) == 0)
+                            .unitPrice(Money.ofMinor(1_500 + random.nextInt(3_000)))
+                            .build());
+        }
+    }
+
+    @Benchmark
+    public Money streamReduce() {
+        return order.getItems().stream()
+                .map(OrderItem::getFinalPrice)
+                .reduce(Money.ZERO, Money::plus);
+    }
+
+    @Benchmark
+    public Money accumulator() {
+        return order.getSubtotal();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.modules.coupons.Coupon;
+import br.com.joaobarbosa.modules.coupons.CouponType;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Order.getTotalAmount() sem cupom e com cupons fixo/percentual, memoizado e recalculado. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderTotalBenchmark {
+
+    @Param({"NONE", "FIXED", "PERCENT"})
+    String coupon;
+
+    @Param({"4", "40"})
+    int items;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        order = Order.builder().withId(UUID.randomUUID()).withStatus(OrderStatus.PENDING).build();
+        for (int i = 0; i < items; i++) {
+            order.addItem(
+                    OrderItem.builder()
+                            .seatId(UUID.randomUUID())
+                            .seatLabel("A" + (i + 1))
+                            .isKindHalf(random.nextInt(4) == 0)
+                            .unitPrice(Money.ofMinor(1_500 + random.nextInt(3_000)))
+                            .build());
+        }
+        if (!coupon.equals("NONE")) {
+            CouponType type = CouponType.valueOf(coupon);
+            order.applyCoupon(
+                    Coupon.builder()
+                            .code("BENCH")
+                            .type(type)
+                            .value(type == CouponType.FIXED ? Money.ofMinor(1_000) : Money.of(15))
+                            .isActive(true)
+                            .build());
+        }
+    }
+
+    @Benchmark
+    public Money memoized() {
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Money recomputed() {
+        order.invalidateTotals();
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Recomendação de bloco em uma sala 40x60 com ~70% dos assentos ocupados. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SeatFinderBenchmark {
+
+    @Param({"2", "6"})
+    int groupSize;
+
+    private SeatMap seatMap;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        seatMap = new SeatMap(40, 60);
+        for (int i = 0; i < seatMap.capacity(); i++) {
+            if (random.nextInt(10) < 7) seatMap.hold(i);
+        }
+    }
+
+    @Benchmark
+    public Optional<SeatBlock> findBest() {
+        return SeatFinder.findBest(seatMap, groupSize);
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/** 64 threads disputando grupos de assentos vizinhos na mesma sala 20x30. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class SeatHoldBenchmark {
+
+    @Param({"1", "4"})
+    int groupSize;
+
+    private SeatMap seatMap;
+
+    @Setup
+    public void setUp() {
+        seatMap = new SeatMap(20, 30);
+    }
+
+    @Benchmark
+    public boolean holdAndRelease() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = random.nextInt(seatMap.rows());
+        int col = random.nextInt(seatMap.cols() - groupSize + 1);
+        int[] seats = new int[groupSize];
+        for (int i = 0; i < groupSize; i++) seats[i] = seatMap.indexOf(row, col + i);
+
+        if (!seatMap.holdAll(seats)) return false;
+        seatMap.releaseAll(seats);
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.joaobarbosa.shared.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/** Geração de códigos de cupom: avulsa (em uma thread e disputada) e em lote, únicos. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodeGeneratorBenchmark {
+
+    @Param({"8", "16"})
+    int length;
+
+    @Benchmark
+    public String generateCode() {
+        return CodeGenerator.generateCode(length);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateCodeContended() {
+        return CodeGenerator.generateCode(length);
+    }
+
+    /** Custo por código de um lote de 100 mil códigos únicos (tempo total / 100 mil). */
+    @Benchmark
+    @OperationsPerInvocation(100_000)
+    public long generateUniqueCodes() {
+        return CodeGenerator.generateUniqueCodes(100_000, length).mapToInt(String::hashCode).sum();
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.joaobarbosa.shared.value_objects;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Aritmética e formatação de Money no caminho compacto (centavos em long). */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+    private static final BigDecimal TEN_PERCENT = new BigDecimal("10");
+
+    private Money price;
+    private Money other;
+    private StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        price = Money.ofMinor(123_450);
+        other = Money.ofMinor(2_599);
+        buffer = new StringBuilder(32);
+    }
+
+    @Benchmark
+    public Money plus() {
+        return price.plus(other);
+    }
+
+    @Benchmark
+    public Money halfPrice() {
+        return price.times(0.5);
+    }
+
+    @Benchmark
+    public Money percentageOf() {
+        return price.percentageOf(TEN_PERCENT);
+    }
+
+    @Benchmark
+    public List<Money> allocateInThree() {
+        return price.allocate(3);
+    }
+
+    @Benchmark
+    public String format() {
+        return price.toString();
+    }
+
+    @Benchmark
+    public StringBuilder formatToBuffer() {
+        buffer.setLength(0);
+        return price.formatTo(buffer);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.joaobarbosa.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Marker;
+
+/**
+ * Amostragem dos logs INFO (e abaixo) dos loggers configurados: só 1 a cada {@code rate} passa, em
+ * média. WARN e ERROR passam sempre. Por ser um TurboFilter, a decisão vem antes de montar o
+ * evento e formatar a mensagem. Configurado no {@code logback-spring.xml} (perfil {@code prod}).
+ */
+public class SamplingTurboFilter extends TurboFilter {
+  private final Set<String> loggers = new HashSet<>();
+  private int rate = 10;
+
+  /** Nome exato de um logger a amostrar; repetível no XML. */
+  public void addLogger(String name) {
+    loggers.add(name.trim());
+  }
+
+  public void setRate(int rate) {
+    this.rate = rate;
+  }
+
+  @Override
+  public void start() {
+    if (rate < 1) {
+      addError("rate deve ser >= 1: " + rate);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (!isStarted() || rate == 1 || level == null || level.isGreaterOrEqual(Level.WARN)) {
+      return FilterReply.NEUTRAL;
+    }
+    if (!loggers.contains(logger.getName())) return FilterReply.NEUTRAL;
+    // aleatório por thread em vez de contador compartilhado: sem disputa entre requisições
+    return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+}
@@ -0,0 +1,108 @@
+package br.com.joaobarbosa.config.security;
+
+import br.com.joaobarbosa.shared.exceptions.server.InternalServerErrorException;
+import br.com.joaobarbosa.shared.exceptions.server.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pool dedicado e limitado para o trabalho de BCrypt (login e registro). Uma rajada de logins
+ * ocupa no máximo {@code threads} núcleos e {@code queue-capacity} posições de fila; o excedente
+ * recebe 503 na hora, em vez de prender as threads do Tomcat que atendem o resto da API.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Timer hashTimer;
+  private final Counter rejected;
+
+  public PasswordHashingExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${app.security.hashing.threads:0}") int threads,
+      @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${app.security.hashing.timeout:5s}") Duration timeout) {
+    // 0 = metade dos núcleos: sempre sobra CPU para os endpoints que não autenticam.
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.timeout = timeout;
+
+    this.hashTimer =
+        Timer.builder("auth.password.hash")
+            .description("Tempo de execução do BCrypt (login e registro)")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    this.rejected =
+        Counter.builder("auth.password.hash.rejected")
+            .description("Pedidos de hash recusados com 503 por fila cheia ou timeout")
+            .register(meterRegistry);
+    Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .description("Pedidos de hash aguardando uma thread")
+        .register(meterRegistry);
+    Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    log.info("Pool de hashing de senhas: {} threads, fila de {}", poolSize, queueCapacity);
+  }
+
+  /** Executa {@code task} no pool e aguarda o resultado; exceções da tarefa são repassadas. */
+  public <T> T execute(Supplier<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> hashTimer.record(task));
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw overloaded();
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+      if (e.getCause() instanceof Error error) throw error;
+      throw new InternalServerErrorException("Erro ao processar a senha", e.getCause());
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      throw overloaded();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw overloaded();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private static ServiceUnavailableException overloaded() {
+    return new ServiceUnavailableException(
+        "Muitas autenticações simultâneas no momento.",
+        "Aguarde alguns instantes e tente novamente.");
+  }
+}
@@ -1,11 +1,12 @@
 package br.com.joaobarbosa.config.security;
 
-import br.com.joaobarbosa.modules.users.UserRepository;
+import br.com.joaobarbosa.modules.users.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,7 +19,11 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    // Monta as authorities direto da claim "roles", sem consultar o usuário.
+    @Value("${app.security.principal-from-claims:false}")
+    private boolean principalFromClaims;
 
   @Override
   protected void doFilterInternal(
@@ -26,13 +31,24 @@ public class SecurityFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
       var token = this.recoverToken(request);
       if (token != null) {
-          var username = this.tokenService.getUsernameFromToken(token);
-          if (username == null) {
+          var verified = this.tokenService.verifyToken(token);
+          if (verified == null) {
               filterChain.doFilter(request, response);
               return;
           }
-          UserDetails user = this.userRepository.findByUsername(username);
-          var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+          UsernamePasswordAuthenticationToken authentication;
+          if (principalFromClaims && verified.hasAuthorities()) {
+              authentication =
+                      new UsernamePasswordAuthenticationToken(
+                              verified.subject(), null, verified.authorities());
+          } else {
+              UserDetails user = this.userPrincipalCache.findByUsername(verified.subject());
+              if (user == null) {
+                  filterChain.doFilter(request, response);
+                  return;
+              }
+              authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+          }
           SecurityContextHolder.getContext().setAuthentication(authentication);
       }
       filterChain.doFilter(request, response);
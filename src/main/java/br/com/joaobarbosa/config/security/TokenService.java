@@ -1,35 +1,62 @@
 package br.com.joaobarbosa.config.security;
 
 import br.com.joaobarbosa.shared.exceptions.server.InternalServerErrorException;
+import br.com.joaobarbosa.shared.utils.ExpiringCache;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class TokenService {
-  @Value("${app.api.jwt.secret}")
-  private String JWT_SECRET;
+  static final String ROLES_CLAIM = "roles";
 
-  @Value("${app.api.jwt.issuer}")
-  private String JWT_ISSUER;
+  private final String jwtIssuer;
+  private final Integer jwtExpirationTime;
 
-  @Value("${app.api.jwt.expiration}")
-  private Integer JWT_EXPIRATION_TIME;
+  // Algorithm e JWTVerifier são imutáveis e thread-safe: montados uma vez só.
+  private final Algorithm algorithm;
+  private final JWTVerifier verifier;
+
+  // Tokens já verificados, indexados pelo SHA-256 do token e válidos até o exp.
+  private final ExpiringCache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+  public TokenService(
+      @Value("${app.api.jwt.secret}") String jwtSecret,
+      @Value("${app.api.jwt.issuer}") String jwtIssuer,
+      @Value("${app.api.jwt.expiration}") Integer jwtExpirationTime,
+      @Value("${app.api.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+    this.jwtIssuer = jwtIssuer;
+    this.jwtExpirationTime = jwtExpirationTime;
+    this.algorithm = Algorithm.HMAC256(jwtSecret);
+    this.verifier = JWT.require(algorithm).withIssuer(jwtIssuer).build();
+    this.verifiedTokens = new ExpiringCache<>(verifiedCacheSize);
+  }
 
   public String generateToken(UserDetails userDetails) {
     log.debug("Gerando token para usuário: {}", userDetails.getUsername());
     try {
-      Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
       return JWT.create()
-          .withIssuer(JWT_ISSUER)
+          .withIssuer(jwtIssuer)
           .withSubject(userDetails.getUsername())
+          .withClaim(
+              ROLES_CLAIM,
+              userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
           .withExpiresAt(getExpirationTime())
           .sign(algorithm);
     } catch (JWTCreationException e) {
@@ -39,15 +66,24 @@ public class TokenService {
   }
 
   public String getUsernameFromToken(String token) {
+    VerifiedToken verified = verifyToken(token);
+    return verified != null ? verified.subject() : null;
+  }
+
+  /** Verifica o token (ou reaproveita uma verificação anterior); {@code null} se for inválido. */
+  public VerifiedToken verifyToken(String token) {
     log.debug("Obtendo username para o token: {}", token);
+    ByteBuffer key = cacheKey(token);
+    VerifiedToken cached = verifiedTokens.get(key);
+    if (cached != null) return cached;
+
     try {
-      Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
-      return JWT
-              .require(algorithm)
-              .withIssuer(JWT_ISSUER)
-              .build()
-              .verify(token)
-              .getSubject();
+      DecodedJWT decoded = verifier.verify(token);
+      if (decoded.getSubject() == null) return null;
+      VerifiedToken verified = new VerifiedToken(decoded.getSubject(), authoritiesOf(decoded));
+      Instant expiresAt = decoded.getExpiresAtAsInstant();
+      if (expiresAt != null) verifiedTokens.put(key, verified, expiresAt.toEpochMilli());
+      return verified;
     } catch (JWTVerificationException e) {
       log.error("Erro ao verificar o token JWT: {}", token, e);
       return null;
@@ -55,6 +91,22 @@ public class TokenService {
   }
 
   private Instant getExpirationTime() {
-    return Instant.now().plusSeconds(JWT_EXPIRATION_TIME);
+    return Instant.now().plusSeconds(jwtExpirationTime);
+  }
+
+  private static List<GrantedAuthority> authoritiesOf(DecodedJWT decoded) {
+    List<String> roles = decoded.getClaim(ROLES_CLAIM).asList(String.class);
+    if (roles == null) return List.of();
+    return roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+  }
+
+  // Hash do token inteiro: nem o token fica em memória, nem um token adulterado colide com outro.
+  private static ByteBuffer cacheKey(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
   }
 }
@@ -0,0 +1,15 @@
+package br.com.joaobarbosa.config.security;
+
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Resultado de um JWT já verificado. {@code authorities} vem da claim "roles" e fica vazia em
+ * tokens emitidos antes dela existir.
+ */
+public record VerifiedToken(String subject, List<GrantedAuthority> authorities) {
+
+  public boolean hasAuthorities() {
+    return !authorities.isEmpty();
+  }
+}
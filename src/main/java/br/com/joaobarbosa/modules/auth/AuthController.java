@@ -1,5 +1,6 @@
 package br.com.joaobarbosa.modules.auth;
 
+import br.com.joaobarbosa.config.security.PasswordHashingExecutor;
 import br.com.joaobarbosa.config.security.TokenService;
 import br.com.joaobarbosa.config.security.annotations.PublicEndpoint;
 import br.com.joaobarbosa.config.security.annotations.RequireAdmin;
@@ -13,7 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -27,6 +28,8 @@ public class AuthController {
   private final AuthenticationManager authenticationManager;
   private final UserRepository userRepository;
   private final TokenService tokenService;
+  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
 
   @PostMapping("login")
   @PublicEndpoint
@@ -34,7 +37,8 @@ public class AuthController {
     log.info("Iniciando login com o usuário: {}", data.username());
     var usernamePassword =
         new UsernamePasswordAuthenticationToken(data.username(), data.password());
-    var authentication = authenticationManager.authenticate(usernamePassword);
+    var authentication =
+        passwordHashingExecutor.execute(() -> authenticationManager.authenticate(usernamePassword));
     var token = this.tokenService.generateToken((User) authentication.getPrincipal());
 
     return ResponseEntity.ok(new LoginResponse(token));
@@ -46,7 +50,8 @@ public class AuthController {
     log.info("Iniciando registro do usuário: {}", data.username());
     if (this.userRepository.findByUsername(data.username()) != null)
       throw new BadRequestException("Usuário já existe");
-    var encryptedPassword = new BCryptPasswordEncoder().encode(data.password());
+    var encryptedPassword =
+        passwordHashingExecutor.execute(() -> passwordEncoder.encode(data.password()));
     User newUser = new User(data.username(), encryptedPassword, data.role());
     this.userRepository.save(newUser);
     return ResponseEntity.status(HttpStatus.CREATED).build();
@@ -0,0 +1,16 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.shared.value_objects.Money;
+import java.util.UUID;
+
+/** Dados de um cupom ativo necessários no checkout, sem a entidade (e sem o pedido associado). */
+public record ActiveCoupon(UUID id, String code, CouponType type, Money value) {
+
+    static ActiveCoupon of(Coupon coupon) {
+        return new ActiveCoupon(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getType(),
+                coupon.getValue());
+    }
+}
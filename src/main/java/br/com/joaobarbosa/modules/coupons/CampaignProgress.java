@@ -0,0 +1,82 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Andamento de uma carga de campanha; atualizado pela thread da carga e lido pela API. */
+public class CampaignProgress {
+    public enum State {
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final long requested;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    CampaignProgress(long requested) {
+        this.requested = requested;
+    }
+
+    void chunkLoaded(long insertedRows, long duplicateRows) {
+        inserted.addAndGet(insertedRows);
+        duplicates.addAndGet(duplicateRows);
+    }
+
+    void finish(State state, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = state;
+    }
+
+    long remaining() {
+        return requested - inserted.get();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRequested() {
+        return requested;
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    /** Códigos que já existiam em {@code coupons}, descartados e repostos com códigos novos. */
+    public long getDuplicates() {
+        return duplicates.get();
+    }
+
+    public long getCouponsPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return inserted.get() * 1000 / millis;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
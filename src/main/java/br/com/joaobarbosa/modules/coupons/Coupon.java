@@ -16,6 +16,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
+@EntityListeners(CouponIndexListener.class)
 public class Coupon {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -34,6 +35,10 @@ public class Coupon {
     @Column(nullable = false, name = "is_active")
     private Boolean isActive;
 
+    // Preenchido no resgate (uso único), junto com isActive = false; ver CouponRedemptionService.
+    @Column(name = "redeemed_at")
+    private Instant redeemedAt;
+
     @OneToOne(mappedBy = "coupon")
     private Order order;
 
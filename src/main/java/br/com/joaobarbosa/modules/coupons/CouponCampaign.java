@@ -0,0 +1,23 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.shared.utils.CodeGenerator;
+import br.com.joaobarbosa.shared.value_objects.Money;
+
+/**
+ * Lote de cupons iguais, com códigos aleatórios únicos de {@code codeLength} caracteres. O tamanho
+ * fica limitado aos códigos da permutação de Feistel, que não guardam os já emitidos em memória.
+ */
+public record CouponCampaign(long count, int codeLength, CouponType type, Money value) {
+
+    public CouponCampaign {
+        if (codeLength > CodeGenerator.MAX_PERMUTED_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Códigos de campanha têm no máximo %d caracteres"
+                            .formatted(CodeGenerator.MAX_PERMUTED_LENGTH));
+        }
+        // Order.applyCoupon recusa percentuais acima de 100: esses cupons nunca seriam usados
+        if (type == CouponType.PERCENT && value.isGreaterThan(100)) {
+            throw new IllegalArgumentException("Cupom percentual acima de 100%: " + value);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.config.security.annotations.RequireAdmin;
+import br.com.joaobarbosa.modules.coupons.dto.CreateCampaignRequest;
+import br.com.joaobarbosa.shared.exceptions.client.NotFoundException;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/coupons/campaigns")
+@RequiredArgsConstructor
+public class CouponCampaignController {
+    private final CouponCampaignLoader campaignLoader;
+
+    /** Inicia a carga em segundo plano; acompanhe pelo endereço em Location. */
+    @PostMapping
+    @RequireAdmin
+    public ResponseEntity<CampaignProgress> createCampaign(
+            @RequestBody @Valid CreateCampaignRequest request) {
+        CampaignProgress progress =
+                campaignLoader.start(
+                        new CouponCampaign(
+                                request.count(),
+                                request.codeLength(),
+                                request.type(),
+                                Money.ofMajor(request.value())));
+        return ResponseEntity.accepted()
+                .location(URI.create("/coupons/campaigns/" + progress.getId()))
+                .body(progress);
+    }
+
+    @GetMapping("/{id}")
+    @RequireAdmin
+    public ResponseEntity<CampaignProgress> getCampaign(@PathVariable UUID id) {
+        return campaignLoader
+                .progress(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new NotFoundException("Campanha não encontrada: " + id));
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.shared.utils.CodeGenerator;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Carga de campanhas com milhões de cupons sem passar pelo JPA. Os códigos são gerados em stream
+ * e enviados por {@code COPY ... FROM STDIN (FORMAT csv)} para uma tabela temporária, em blocos;
+ * cada bloco vira um único {@code INSERT ... SELECT ... ON CONFLICT (code) DO NOTHING} em {@code
+ * coupons} e é confirmado em seguida. Códigos que já existiam ficam de fora e são repostos com
+ * códigos novos ao fim da rodada. Uma campanha por vez, numa thread própria.
+ */
+@Slf4j
+@Service
+public class CouponCampaignLoader {
+    // ON COMMIT DELETE ROWS: o commit de cada bloco já esvazia a staging
+    private static final String CREATE_STAGING =
+            "create temp table if not exists coupon_staging (code text not null)"
+                    + " on commit delete rows";
+    private static final String DROP_STAGING = "drop table if exists coupon_staging";
+    private static final String COPY_STAGING = "copy coupon_staging (code) from stdin (format csv)";
+    private static final String INSERT_FROM_STAGING =
+            "insert into coupons (id, code, type, money_value, money_currency_code, is_active,"
+                    + " created_at, updated_at)"
+                    + " select gen_random_uuid(), code, ?, ?, ?, true, now(), now()"
+                    + " from coupon_staging"
+                    + " on conflict (code) do nothing";
+
+    // Rodadas de reposição de duplicados; mais que isso indica espaço de códigos quase esgotado.
+    private static final int MAX_ROUNDS = 5;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final CouponLookupService couponLookup;
+    private final int chunkSize;
+    private final Duration progressTtl;
+    // Andamento consultável pela API; as concluídas saem depois de progressTtl.
+    private final Map<UUID, CampaignProgress> campaigns = new ConcurrentHashMap<>();
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(task -> new Thread(task, "coupon-campaign"));
+
+    public CouponCampaignLoader(
+            DataSource dataSource,
+            CouponLookupService couponLookup,
+            @Value("${app.coupons.campaign.chunk-size:500000}") int chunkSize,
+            @Value("${app.coupons.campaign.progress-ttl:24h}") Duration progressTtl) {
+        this.dataSource = dataSource;
+        this.couponLookup = couponLookup;
+        this.chunkSize = chunkSize;
+        this.progressTtl = progressTtl;
+    }
+
+    /** Enfileira a carga e devolve o andamento, consultável depois por {@link #progress}. */
+    public CampaignProgress start(CouponCampaign campaign) {
+        removeFinished();
+        CampaignProgress progress = new CampaignProgress(campaign.count());
+        campaigns.put(progress.getId(), progress);
+        executor.execute(
+                () -> {
+                    try {
+                        load(campaign, progress);
+                        progress.finish(CampaignProgress.State.DONE, null);
+                    } catch (Exception e) {
+                        log.error("Falha na carga da campanha {}", progress.getId(), e);
+                        progress.finish(CampaignProgress.State.FAILED, e.getMessage());
+                    }
+                });
+        return progress;
+    }
+
+    public Optional<CampaignProgress> progress(UUID id) {
+        removeFinished();
+        return Optional.ofNullable(campaigns.get(id));
+    }
+
+    // Poucas campanhas por vez: varrer o mapa a cada chamada da API é barato.
+    private void removeFinished() {
+        Instant cutoff = Instant.now().minus(progressTtl);
+        campaigns.values()
+                .removeIf(p -> p.getFinishedAt() != null && p.getFinishedAt().isBefore(cutoff));
+    }
+
+    /** Carga síncrona; {@code progress} é atualizado a cada bloco confirmado. */
+    public void load(CouponCampaign campaign, CampaignProgress progress) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            execute(connection, CREATE_STAGING);
+            connection.commit();
+
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_FROM_STAGING)) {
+                insert.setString(1, campaign.type().name());
+                insert.setBigDecimal(2, campaign.value().getAmount());
+                insert.setString(3, campaign.value().getCurrencyCode());
+
+                for (int round = 0; round < MAX_ROUNDS && progress.remaining() > 0; round++) {
+                    Iterator<String> codes =
+                            CodeGenerator.generateUniqueCodes(
+                                            progress.remaining(), campaign.codeLength())
+                                    .iterator();
+                    while (codes.hasNext()) {
+                        long copied = copyChunk(copyManager, codes);
+                        int inserted = insert.executeUpdate();
+                        connection.commit();
+                        progress.chunkLoaded(inserted, copied - inserted);
+                        log.info(
+                                "Campanha {}: {}/{} cupons ({} duplicados, {} cupons/s)",
+                                progress.getId(),
+                                progress.getInserted(),
+                                progress.getRequested(),
+                                progress.getDuplicates(),
+                                progress.getCouponsPerSecond());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                // a conexão volta ao pool: a tabela temporária não pode ficar na sessão
+                execute(connection, DROP_STAGING);
+                connection.commit();
+            }
+        } finally {
+            // códigos da campanha consultados antes da carga podem estar no cache negativo
+            couponLookup.clearNegativeCache();
+        }
+
+        if (progress.remaining() > 0) {
+            throw new IllegalStateException(
+                    "Campanha incompleta: %d cupons sem código livre após %d rodadas"
+                            .formatted(progress.remaining(), MAX_ROUNDS));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Envia até {@code chunkSize} códigos num COPY e devolve quantas linhas entraram. */
+    private long copyChunk(CopyManager copyManager, Iterator<String> codes) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(COPY_STAGING);
+        try {
+            byte[] buffer = new byte[WRITE_BUFFER_BYTES];
+            int position = 0;
+            for (int rows = 0; rows < chunkSize && codes.hasNext(); rows++) {
+                String code = codes.next();
+                if (position + code.length() + 1 > buffer.length) {
+                    copyIn.writeToCopy(buffer, 0, position);
+                    position = 0;
+                }
+                // Crockford base32 é ASCII puro e não precisa de aspas no CSV
+                for (int i = 0; i < code.length(); i++) buffer[position++] = (byte) code.charAt(i);
+                buffer[position++] = '\n';
+            }
+            if (position > 0) copyIn.writeToCopy(buffer, 0, position);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
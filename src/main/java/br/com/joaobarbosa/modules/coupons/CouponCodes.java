@@ -0,0 +1,31 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import java.util.Locale;
+
+/** Forma canônica dos códigos de cupom digitados: sem espaços nas pontas e em maiúsculas. */
+public final class CouponCodes {
+    public static final int MAX_LENGTH = 64;
+
+    private CouponCodes() {}
+
+    /**
+     * Código canônico, ou {@code null} se vazio ou maior que {@link #MAX_LENGTH} (nunca existe).
+     * Um código que já está na forma canônica é devolvido sem alocar nada.
+     */
+    public static String normalize(String code) {
+        if (code == null) return null;
+        int start = 0;
+        int end = code.length();
+        while (start < end && code.charAt(start) <= ' ') start++;
+        while (end > start && code.charAt(end - 1) <= ' ') end--;
+        if (start == end || end - start > MAX_LENGTH) return null;
+
+        for (int i = start; i < end; i++) {
+            char c = code.charAt(i);
+            if ((c >= 'a' && c <= 'z') || c > 0x7f) {
+                return code.substring(start, end).toUpperCase(Locale.ROOT);
+            }
+        }
+        return start == 0 && end == code.length() ? code : code.substring(start, end);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import br.com.joaobarbosa.shared.utils.AfterCommit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém o cache do {@link CouponLookupService} em dia com as escritas em {@link Coupon}:
+ * criação e reativação entram no cache, desativação e remoção saem. Os callbacks rodam no flush,
+ * então a mudança só chega ao cache depois do commit (ver {@link AfterCommit}).
+ */
+@Component
+public class CouponIndexListener {
+    // ObjectProvider: o listener nasce com o EntityManagerFactory, antes do serviço existir.
+    private final ObjectProvider<CouponLookupService> lookup;
+
+    public CouponIndexListener(ObjectProvider<CouponLookupService> lookup) {
+        this.lookup = lookup;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void refresh(Coupon coupon) {
+        AfterCommit.run(() -> lookup.ifAvailable(service -> service.refresh(coupon)));
+    }
+
+    @PostRemove
+    void remove(Coupon coupon) {
+        String code = coupon.getCode();
+        AfterCommit.run(() -> lookup.ifAvailable(service -> service.remove(code)));
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.shared.utils.ExpiringCache;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Validação dos códigos de cupom digitados no checkout. Os cupons ativos consultados ficam num
+ * cache em memória (código canônico → cupom) limitado por tamanho e TTL, pré-aquecido na subida e
+ * mantido pelo {@link CouponIndexListener}; com campanhas de milhões de cupons, a tabela inteira
+ * não cabe em memória. Um código fora do cache vai ao banco pelo índice único de {@code code} e,
+ * se não existir, fica num cache negativo também limitado: códigos errados repetidos, de usuário
+ * ou de bot, não chegam ao banco. Os códigos são gravados na forma canônica de {@link
+ * CouponCodes} (maiúsculas).
+ */
+@Slf4j
+@Service
+public class CouponLookupService {
+    private static final Boolean UNKNOWN = Boolean.TRUE;
+
+    private final CouponRepository couponRepository;
+    private final ExpiringCache<String, ActiveCoupon> activeByCode;
+    private final ExpiringCache<String, Boolean> unknownCodes;
+    private final int activeMaxSize;
+    private final long activeTtlMillis;
+    private final long negativeTtlMillis;
+
+    public CouponLookupService(
+            CouponRepository couponRepository,
+            @Value("${app.coupons.cache.ttl:10m}") Duration activeTtl,
+            @Value("${app.coupons.cache.max-size:100000}") int activeMaxSize,
+            @Value("${app.coupons.negative-cache.ttl:1m}") Duration negativeTtl,
+            @Value("${app.coupons.negative-cache.max-size:10000}") int negativeMaxSize) {
+        this.couponRepository = couponRepository;
+        this.activeByCode = new ExpiringCache<>(activeMaxSize);
+        this.unknownCodes = new ExpiringCache<>(negativeMaxSize);
+        this.activeMaxSize = activeMaxSize;
+        this.activeTtlMillis = activeTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+    }
+
+    /** Cupom ativo com o código digitado (sem diferenciar maiúsculas/minúsculas), se houver. */
+    public Optional<ActiveCoupon> findActive(String typedCode) {
+        String code = CouponCodes.normalize(typedCode);
+        if (code == null) return Optional.empty();
+
+        ActiveCoupon coupon = activeByCode.get(code);
+        if (coupon != null) return Optional.of(coupon);
+        if (unknownCodes.get(code) != null) return Optional.empty();
+
+        Optional<ActiveCoupon> found = couponRepository.findActiveByCode(code);
+        if (found.isPresent()) {
+            cache(code, found.get());
+        } else {
+            unknownCodes.put(code, UNKNOWN, System.currentTimeMillis() + negativeTtlMillis);
+        }
+        return found;
+    }
+
+    /** Atualiza o cache após uma escrita: cupom ativo entra, inativo sai. */
+    public void refresh(Coupon coupon) {
+        String code = CouponCodes.normalize(coupon.getCode());
+        if (code == null) return;
+        if (Boolean.TRUE.equals(coupon.getIsActive())) {
+            cache(code, ActiveCoupon.of(coupon));
+            unknownCodes.invalidate(code);
+        } else {
+            activeByCode.invalidate(code);
+        }
+    }
+
+    public void remove(String typedCode) {
+        String code = CouponCodes.normalize(typedCode);
+        if (code != null) activeByCode.invalidate(code);
+    }
+
+    /** Após cargas diretas no banco, que não passam pelo {@link CouponIndexListener}. */
+    public void clearNegativeCache() {
+        unknownCodes.invalidateAll();
+    }
+
+    public int cachedCoupons() {
+        return activeByCode.size();
+    }
+
+    public long negativeCacheHits() {
+        return unknownCodes.hits();
+    }
+
+    /** Pré-aquece o cache com até {@code max-size} cupons ativos, direto do cursor do banco. */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try (Stream<ActiveCoupon> coupons = couponRepository.streamAllActive()) {
+            coupons.limit(activeMaxSize)
+                    .forEach(
+                            coupon -> {
+                                String code = CouponCodes.normalize(coupon.code());
+                                if (code != null) cache(code, coupon);
+                            });
+        }
+        log.info("Cache de cupons pré-aquecido: {} cupons ativos", activeByCode.size());
+    }
+
+    private void cache(String code, ActiveCoupon coupon) {
+        activeByCode.put(code, coupon, System.currentTimeMillis() + activeTtlMillis);
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import br.com.joaobarbosa.modules.orders.Order;
+import br.com.joaobarbosa.shared.exceptions.client.ConflictException;
+import br.com.joaobarbosa.shared.exceptions.client.NotFoundException;
+import br.com.joaobarbosa.shared.utils.AfterCommit;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Resgate de cupons de uso único no checkout. A disputa entre checkouts simultâneos é resolvida
+ * pelo UPDATE condicional de {@link CouponRepository#claim}: lock só na linha do cupom, sem ler
+ * o estado antes para decidir, então dois pedidos nunca levam o mesmo cupom.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponRedemptionService {
+    private static final NotFoundException UNKNOWN_COUPON =
+            NotFoundException.stackless("Cupom não encontrado.", "Verifique o código informado.");
+    private static final ConflictException ALREADY_REDEEMED =
+            ConflictException.stackless(
+                    "Este cupom já foi utilizado.", "Remova o cupom ou informe outro código.");
+
+    private final CouponLookupService couponLookup;
+    private final CouponRepository couponRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Valida o cupom para o pedido a partir do {@link ActiveCoupon}, consome-o e só então o liga ao
+     * pedido. Se outro checkout levar o cupom primeiro, lança {@link ConflictException} e o pedido
+     * fica sem cupom.
+     */
+    @Transactional
+    public Coupon redeem(Order order, String typedCode) {
+        ActiveCoupon active = couponLookup.findActive(typedCode).orElseThrow(() -> UNKNOWN_COUPON);
+        order.checkCoupon(active.type(), active.value());
+
+        int claimed = couponRepository.claim(active.id());
+        if (claimed == 0) {
+            // outro checkout já consumiu e commitou o cupom: o cache pode esquecê-lo agora
+            couponLookup.remove(active.code());
+            throw ALREADY_REDEEMED;
+        }
+        // só depois do commit: num rollback o cupom continua ativo e deve seguir no cache
+        AfterCommit.run(() -> couponLookup.remove(active.code()));
+
+        // Referência sem SELECT: nenhuma cópia do cupom (nem do pedido ligado a ele) é carregada
+        // antes do UPDATE, e quando for lida virá do banco já resgatada. O claim é SQL nativo e
+        // não passa pelo contexto de persistência: se o cupom já estava carregado nesta
+        // transação, a cópia gerenciada ainda diz ativo e precisa ser relida.
+        Coupon coupon = couponRepository.getReferenceById(active.id());
+        if (Hibernate.isInitialized(coupon)) entityManager.refresh(coupon);
+        order.attachCoupon(coupon);
+        return coupon;
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import jakarta.persistence.QueryHint;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CouponRepository extends JpaRepository<Coupon, UUID> {
+
+    /** Cupons ativos para pré-aquecer o cache; consumir dentro de uma transação. */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            "select new br.com.joaobarbosa.modules.coupons.ActiveCoupon("
+                    + "c.id, c.code, c.type, c.value) from coupons c where c.isActive = true")
+    Stream<ActiveCoupon> streamAllActive();
+
+    @Query(
+            "select new br.com.joaobarbosa.modules.coupons.ActiveCoupon("
+                    + "c.id, c.code, c.type, c.value) from coupons c"
+                    + " where c.code = :code and c.isActive = true")
+    Optional<ActiveCoupon> findActiveByCode(@Param("code") String code);
+
+    /**
+     * Resgata o cupom em um único UPDATE condicional: só a primeira transação encontra a linha
+     * ativa e recebe 1; as concorrentes esperam o lock dessa linha e recebem 0.
+     */
+    @Modifying
+    @Query(
+            value =
+                    "update coupons set is_active = false, redeemed_at = now(), updated_at = now()"
+                            + " where id = :id and is_active = true",
+            nativeQuery = true)
+    int claim(@Param("id") UUID id);
+}
@@ -0,0 +1,30 @@
+package br.com.joaobarbosa.modules.coupons.dto;
+
+import br.com.joaobarbosa.modules.coupons.CouponType;
+import br.com.joaobarbosa.shared.utils.CodeGenerator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+
+public record CreateCampaignRequest(
+        @NotNull @Min(value = 1, message = "A campanha deve ter pelo menos 1 cupom")
+                @Max(value = 50_000_000, message = "A campanha pode ter até 50 milhões de cupons")
+                Long count,
+        @NotNull @Min(value = 6, message = "O código deve ter pelo menos 6 caracteres")
+                @Max(
+                        value = CodeGenerator.MAX_PERMUTED_LENGTH,
+                        message = "O código deve ter no máximo 12 caracteres")
+                Integer codeLength,
+        @NotNull(message = "Informe o tipo do cupom") CouponType type,
+        @NotNull @Positive(message = "O valor do cupom deve ser positivo") BigDecimal value) {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    // Cupom acima de 100% seria recusado em todo checkout: melhor não carregar a campanha.
+    @AssertTrue(message = "O valor do cupom percentual deve ser no máximo 100")
+    public boolean isPercentWithinLimit() {
+        return type != CouponType.PERCENT || value == null || value.compareTo(HUNDRED) <= 0;
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.joaobarbosa.modules.movies;
+
+/** Resposta já serializada, pronta para ser escrita como está, com sua ETag forte. */
+record CachedJson(byte[] body, String etag) {}
@@ -12,7 +12,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity(name = "movies")
-@Table(name = "movies")
+@Table(
+        name = "movies",
+        indexes = @Index(name = "idx_movies_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -3,9 +3,11 @@ package br.com.joaobarbosa.modules.movies;
 import br.com.joaobarbosa.config.security.annotations.PublicEndpoint;
 import br.com.joaobarbosa.config.security.annotations.RequireAdmin;
 import br.com.joaobarbosa.modules.movies.dto.CreateMovieDto;
+import br.com.joaobarbosa.shared.pagination.PageSizeResolver;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,35 +17,45 @@ import org.springframework.web.bind.annotation.*;
 public class MovieController {
 
     private final MovieService movieService;
+    private final PageSizeResolver pageSizeResolver;
 
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, PageSizeResolver pageSizeResolver) {
         this.movieService = movieService;
+        this.pageSizeResolver = pageSizeResolver;
     }
 
     @PostMapping
     @RequireAdmin
     public ResponseEntity<Movie> saveMovie(@RequestBody CreateMovieDto data) {
-        log.info(String.valueOf(data));
+        log.info("Cadastrando filme: {}", data);
         var movie = movieService.saveMovie(data);
         return ResponseEntity.ok(movie);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/search")
     @PublicEndpoint
-    public ResponseEntity<Movie> findById(@PathVariable UUID id) {
+    public ResponseEntity<List<MovieSearchIndex.Hit>> search(
+            @RequestParam("q") String query, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(movieService.search(query, Math.min(Math.max(limit, 1), 50)));
+    }
 
-        return ResponseEntity.ok(movieService.findById(id));
+    @GetMapping("/{id}")
+    @PublicEndpoint
+    public ResponseEntity<byte[]> findById(@PathVariable UUID id) {
+        return cachedResponse(movieService.findJsonById(id));
     }
 
     @GetMapping
     @PublicEndpoint
-    public ResponseEntity<List<Movie>> findAll() {
-        List<Movie> movies = movieService.findAll();
+    public ResponseEntity<byte[]> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CachedJson page = movieService.findPageJson(cursor, pageSizeResolver.resolve(size));
 
-        if (movies.isEmpty()) {
+        if (page == null) {
             return ResponseEntity.noContent().build();
         }
-        return ResponseEntity.ok(movies);
+        return cachedResponse(page);
     }
 
     @DeleteMapping("/{id}")
@@ -60,4 +72,13 @@ public class MovieController {
         Movie updated = movieService.updateById(id, updatedMovie);
         return ResponseEntity.ok(updated);
     }
+
+    // Com a ETag na resposta o Spring MVC compara com o If-None-Match e responde 304 sem corpo;
+    // como o JSON vem do cache, isso acontece sem banco e sem Jackson.
+    private static ResponseEntity<byte[]> cachedResponse(CachedJson json) {
+        return ResponseEntity.ok()
+                .eTag(json.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json.body());
+    }
 }
@@ -1,8 +1,28 @@
 package br.com.joaobarbosa.modules.movies;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, UUID> {}
+public interface MovieRepository extends JpaRepository<Movie, UUID> {
+
+    // Keyset sobre (created_at, id): o índice idx_movies_created_at_id leva direto ao início da
+    // página, então a página N custa o mesmo que a primeira. A comparação tem de ser por valor de
+    // linha: "a > x or (a = x and b > y)" não vira faixa do índice no Postgres e varre desde o
+    // começo a cada página.
+    @Query("select m from movies m order by m.createdAt, m.id")
+    List<Movie> findFirstPage(Limit limit);
+
+    @Query(
+            "select m from movies m"
+                    + " where (m.createdAt, m.id) > (:createdAt, :id)"
+                    + " order by m.createdAt, m.id")
+    List<Movie> findPageAfter(
+            @Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+}
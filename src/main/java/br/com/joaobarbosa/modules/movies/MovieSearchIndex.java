@@ -0,0 +1,273 @@
+package br.com.joaobarbosa.modules.movies;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice invertido em memória sobre título e sinopse dos filmes.
+ *
+ * <p>Os textos são normalizados sem acento e em minúsculas ("Ação" casa com "acao"). Cada termo
+ * aponta para uma lista de documentos (ids inteiros, crescentes) com o peso do termo naquele
+ * filme; o título pesa mais que a sinopse. Na busca, todos os termos precisam aparecer e o último
+ * é tratado como prefixo (autocomplete). A pontuação é a soma de peso × idf por termo.
+ *
+ * <p>Escritas são raras (mudanças no catálogo) e usam o lock de escrita; buscas só leem.
+ */
+@Component
+public class MovieSearchIndex {
+    public record Hit(UUID id, String title, double score) {}
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int SYNOPSIS_WEIGHT = 1;
+    private static final int MIN_PREFIX = 2;
+    private static final int MAX_PREFIX_TERMS = 256;
+    // Um termo que só casa por prefixo vale menos que o termo exato.
+    private static final double PREFIX_FACTOR = 0.6;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS =
+            Set.of(
+                    "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "no", "na",
+                    "nos", "nas", "um", "uma", "para", "por", "com", "que", "se", "ao", "the",
+                    "of");
+
+    private final NavigableMap<String, Postings> terms = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Integer> docByMovie = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    // Slots liberados por remoções; reaproveitados para que `docs` não cresça a cada edição.
+    private final ArrayDeque<Integer> freeDocs = new ArrayDeque<>();
+    private int liveDocs;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Doc(UUID id, String title, String[] terms) {}
+
+    /** Inclui ou reindexa o filme (remove os termos antigos antes). */
+    public void index(Movie movie) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String term : tokenize(movie.getTitle(), false)) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(movie.getSynopsis(), false)) {
+            weights.merge(term, SYNOPSIS_WEIGHT, Integer::sum);
+        }
+        String[] docTerms = weights.keySet().toArray(String[]::new);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(movie.getId());
+            Doc entry = new Doc(movie.getId(), movie.getTitle(), docTerms);
+            Integer free = freeDocs.poll();
+            int doc;
+            if (free != null) {
+                doc = free;
+                docs.set(doc, entry);
+            } else {
+                doc = docs.size();
+                docs.add(entry);
+            }
+            docByMovie.put(movie.getId(), doc);
+            liveDocs++;
+            weights.forEach(
+                    (term, weight) ->
+                            terms.computeIfAbsent(term, t -> new Postings()).add(doc, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID movieId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            docByMovie.clear();
+            docs.clear();
+            freeDocs.clear();
+            liveDocs = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        // O último termo pode ser começo de palavra ("de" -> "deadpool"): não é descartado.
+        List<String> tokens = tokenize(query, true);
+        if (tokens.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<List<Match>> matches = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                List<Match> tokenMatches = matchesOf(tokens.get(i), i == tokens.size() - 1);
+                if (tokenMatches.isEmpty()) return List.of();
+                matches.add(tokenMatches);
+            }
+            // Do termo mais raro para o mais comum: o primeiro define os candidatos e os demais
+            // só consultam esse conjunto, que nunca cresce.
+            matches.sort(Comparator.comparingInt(MovieSearchIndex::documentCount));
+
+            Map<Integer, Double> scores = null;
+            for (List<Match> tokenMatches : matches) {
+                scores = score(tokenMatches, scores);
+                if (scores.isEmpty()) return List.of();
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Match(Postings postings, double factor) {}
+
+    private List<Match> matchesOf(String token, boolean prefix) {
+        List<Match> matches = new ArrayList<>();
+        Postings exact = terms.get(token);
+        if (exact != null) matches.add(new Match(exact, 1.0));
+
+        if (prefix && token.length() >= MIN_PREFIX) {
+            for (Postings postings :
+                    terms.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+                if (matches.size() > MAX_PREFIX_TERMS) break;
+                matches.add(new Match(postings, PREFIX_FACTOR));
+            }
+        }
+        return matches;
+    }
+
+    private static int documentCount(List<Match> matches) {
+        int count = 0;
+        for (Match match : matches) count += match.postings().size;
+        return count;
+    }
+
+    // Pontua um termo da busca; com `candidates`, só os documentos que casaram os anteriores.
+    private Map<Integer, Double> score(List<Match> matches, Map<Integer, Double> candidates) {
+        Map<Integer, Double> scores = new HashMap<>();
+        for (Match match : matches) {
+            Postings postings = match.postings();
+            double idf = Math.log(1.0 + (double) liveDocs / postings.size);
+            for (int i = 0; i < postings.size; i++) {
+                int doc = postings.docs[i];
+                double score = postings.weights[i] * idf * match.factor();
+                if (candidates == null) {
+                    scores.merge(doc, score, Math::max);
+                } else {
+                    Double previous = candidates.get(doc);
+                    if (previous != null) scores.merge(doc, previous + score, Math::max);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private List<Hit> topHits(Map<Integer, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Integer, Double>> top =
+                new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            top.add(entry);
+            if (top.size() > limit) top.poll();
+        }
+        List<Hit> hits = new ArrayList<>(top.size());
+        for (Map.Entry<Integer, Double> entry : top) {
+            Doc doc = docs.get(entry.getKey());
+            hits.add(new Hit(doc.id(), doc.title(), entry.getValue()));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::title));
+        return hits;
+    }
+
+    private void removeLocked(UUID movieId) {
+        Integer doc = docByMovie.remove(movieId);
+        if (doc == null) return;
+        for (String term : docs.get(doc).terms()) {
+            Postings postings = terms.get(term);
+            if (postings != null && postings.remove(doc) && postings.size == 0) terms.remove(term);
+        }
+        // O slot fica vazio até o próximo index() reaproveitá-lo.
+        docs.set(doc, null);
+        freeDocs.push(doc);
+        liveDocs--;
+    }
+
+    static List<String> tokenize(String text, boolean keepLast) {
+        if (text == null || text.isBlank()) return List.of();
+        String normalized =
+                DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                        .replaceAll("")
+                        .toLowerCase(Locale.ROOT);
+        String[] words = NON_WORD.split(normalized);
+        List<String> tokens = new ArrayList<>(words.length);
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            boolean last = i == words.length - 1;
+            if (word.isEmpty()) continue;
+            if (!STOP_WORDS.contains(word) || (keepLast && last)) tokens.add(word);
+        }
+        return tokens;
+    }
+
+    /** Lista de documentos de um termo, ordenada por id. */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] weights = new int[4];
+        int size;
+
+        void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            // Documento novo entra no fim; slot reaproveitado pode ter id menor que o último.
+            int i = size;
+            if (i > 0 && docs[i - 1] > doc) i = -Arrays.binarySearch(docs, 0, size, doc) - 1;
+            System.arraycopy(docs, i, docs, i + 1, size - i);
+            System.arraycopy(weights, i, weights, i + 1, size - i);
+            docs[i] = doc;
+            weights[i] = weight;
+            size++;
+        }
+
+        boolean remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) return false;
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            System.arraycopy(weights, i + 1, weights, i, size - i - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -2,21 +2,64 @@ package br.com.joaobarbosa.modules.movies;
 
 import br.com.joaobarbosa.modules.movies.dto.CreateMovieDto;
 import br.com.joaobarbosa.shared.exceptions.client.NotFoundException;
+import br.com.joaobarbosa.shared.exceptions.server.InternalServerErrorException;
+import br.com.joaobarbosa.shared.pagination.Cursor;
+import br.com.joaobarbosa.shared.pagination.CursorPage;
+import br.com.joaobarbosa.shared.utils.ExpiringCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class MovieService {
+    private static final int REBUILD_BATCH = 1000;
+
     private final MovieRepository repository;
+    private final ObjectMapper objectMapper;
+    private final MovieSearchIndex searchIndex;
+
+    // Catálogo muda poucas vezes por dia: guardamos o JSON pronto de cada filme e de cada página
+    // da listagem. Qualquer escrita invalida o filme e todas as páginas.
+    private final ConcurrentMap<UUID, CachedJson> movieJson = new ConcurrentHashMap<>();
+    private final ExpiringCache<String, CachedJson> pageJson;
+    private final long pageTtlMillis;
+    private final AtomicLong writes = new AtomicLong();
 
-    public MovieService(MovieRepository repository) {
+    public MovieService(
+            MovieRepository repository,
+            ObjectMapper objectMapper,
+            MovieSearchIndex searchIndex,
+            @Value("${app.movies.cache.page-ttl:10m}") Duration pageTtl,
+            @Value("${app.movies.cache.max-pages:1000}") int maxPages) {
         this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.searchIndex = searchIndex;
+        this.pageJson = new ExpiringCache<>(maxPages);
+        this.pageTtlMillis = pageTtl.toMillis();
     }
 
     public Movie saveMovie(CreateMovieDto data) {
         Movie newMovie = new Movie(data);
-        return repository.save(newMovie);
+        Movie saved = repository.save(newMovie);
+        invalidate(saved.getId());
+        searchIndex.index(saved);
+        return saved;
     }
 
     public Movie findById(UUID id) {
@@ -25,8 +68,47 @@ public class MovieService {
                 .orElseThrow(() -> new NotFoundException("Filme Não Encontrado"));
     }
 
-    public List<Movie> findAll() {
-        return repository.findAll();
+    /** JSON do filme, servido do cache; a ETag muda a cada updatedAt. */
+    public CachedJson findJsonById(UUID id) {
+        CachedJson cached = movieJson.get(id);
+        if (cached != null) return cached;
+
+        long version = writes.get();
+        Movie movie = findById(id);
+        CachedJson json = new CachedJson(toJson(movie), etagOf(movie.getUpdatedAt()));
+        movieJson.put(id, json);
+        // Uma escrita concorrente pode ter invalidado antes do put: descarta o que lemos.
+        if (writes.get() != version) movieJson.remove(id);
+        return json;
+    }
+
+    /** JSON de uma página da listagem, do cache; {@code null} se a primeira página estiver vazia. */
+    public CachedJson findPageJson(String cursor, int size) {
+        String key = cursor + ":" + size;
+        CachedJson cached = pageJson.get(key);
+        if (cached != null) return cached;
+
+        long version = writes.get();
+        CursorPage<Movie> page = findPage(cursor, size);
+        if (page.items().isEmpty() && cursor == null) return null;
+        byte[] body = toJson(page);
+        CachedJson json = new CachedJson(body, etagOf(body));
+        pageJson.put(key, json, System.currentTimeMillis() + pageTtlMillis);
+        if (writes.get() != version) pageJson.invalidate(key);
+        return json;
+    }
+
+    /** Página de filmes em ordem de criação; {@code cursor} nulo começa do início. */
+    public CursorPage<Movie> findPage(String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<Movie> rows;
+        if (cursor == null) {
+            rows = repository.findFirstPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = repository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+        return CursorPage.of(rows, size, m -> new Cursor(m.getCreatedAt(), m.getId()));
     }
 
     public void deleteById(UUID id) {
@@ -34,6 +116,8 @@ public class MovieService {
             throw new NotFoundException("Filme com id " + id + " não encontrado");
         }
         repository.deleteById(id);
+        invalidate(id);
+        searchIndex.remove(id);
     }
 
     public Movie updateById(UUID id, CreateMovieDto updatedMovie) {
@@ -48,6 +132,57 @@ public class MovieService {
         if (updatedMovie.getRating() != null) movieEntity.setRating(updatedMovie.getRating());
         if (updatedMovie.getSynopsis() != null) movieEntity.setSynopsis(updatedMovie.getSynopsis());
 
-        return repository.save(movieEntity);
+        Movie saved = repository.save(movieEntity);
+        invalidate(id);
+        searchIndex.index(saved);
+        return saved;
+    }
+
+    public List<MovieSearchIndex.Hit> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    /** Carrega o índice de busca na subida, em lotes pela mesma ordem da listagem. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        searchIndex.clear();
+        List<Movie> batch = repository.findFirstPage(Limit.of(REBUILD_BATCH));
+        while (!batch.isEmpty()) {
+            batch.forEach(searchIndex::index);
+            Movie last = batch.get(batch.size() - 1);
+            batch =
+                    repository.findPageAfter(
+                            last.getCreatedAt(), last.getId(), Limit.of(REBUILD_BATCH));
+        }
+        log.info("Índice de busca de filmes carregado: {} filmes", searchIndex.size());
+    }
+
+    private void invalidate(UUID id) {
+        writes.incrementAndGet();
+        movieJson.remove(id);
+        pageJson.invalidateAll();
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerErrorException("Erro ao serializar o catálogo de filmes", e);
+        }
+    }
+
+    private static String etagOf(Instant updatedAt) {
+        return "\"" + updatedAt.getEpochSecond() + "." + updatedAt.getNano() + "\"";
+    }
+
+    // Página: hash do próprio JSON, que já carrega o id e o updatedAt de cada filme.
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            return "\"" + encoded.substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
     }
 }
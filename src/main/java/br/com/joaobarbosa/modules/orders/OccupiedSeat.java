@@ -0,0 +1,7 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.modules.seats.SeatPosition;
+import java.util.UUID;
+
+/** Projeção enxuta de um assento vendido ou reservado, usada para reconstruir a ocupação. */
+public record OccupiedSeat(UUID roomId, SeatPosition position) {}
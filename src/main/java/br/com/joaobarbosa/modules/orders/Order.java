@@ -1,12 +1,15 @@
 package br.com.joaobarbosa.modules.orders;
 
 import br.com.joaobarbosa.modules.coupons.Coupon;
+import br.com.joaobarbosa.modules.coupons.CouponType;
 import br.com.joaobarbosa.modules.users.User;
 import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
 import br.com.joaobarbosa.shared.value_objects.Money;
+import br.com.joaobarbosa.shared.value_objects.MoneyAccumulator;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +25,26 @@ import org.hibernate.annotations.UpdateTimestamp;
 @AllArgsConstructor
 @Getter
 public class Order {
+    // Erros de validação de cupom: sem stack trace, então basta uma instância de cada para todos
+    // os pedidos.
+    private static final BadRequestException INACTIVE_COUPON =
+            BadRequestException.stackless("Cupom inativo.", "Verifique o cupom informado.");
+    private static final BadRequestException COUPON_ON_CLOSED_ORDER =
+            BadRequestException.stackless(
+                    "Não é possível aplicar cupom em pedidos cancelados ou pagos.",
+                    "Verifique o status do pedido.");
+    private static final BadRequestException COUPON_ABOVE_SUBTOTAL =
+            BadRequestException.stackless(
+                    "O valor do cupom não pode ser maior que o subtotal do pedido.",
+                    "Verifique o cupom informado.");
+    private static final BadRequestException COUPON_ABOVE_100_PERCENT =
+            BadRequestException.stackless(
+                    "O valor do cupom percentual não pode ser maior que 100%.",
+                    "Verifique o cupom informado.");
+    private static final BadRequestException INVALID_COUPON_TYPE =
+            BadRequestException.stackless(
+                    "Tipo de cupom inválido.", "Verifique o cupom informado.");
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -53,73 +76,134 @@ public class Order {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // Totais memoizados; final e inicializado para ficar fora do builder e do construtor.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final OrderTotals totals = new OrderTotals();
+
+    /** Visão somente leitura: alterações passam por addItem/removeItem para manter os totais. */
+    public List<OrderItem> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
     @Transient
     public Money getSubtotal() {
-        return items.stream().map(OrderItem::getFinalPrice).reduce(Money.ZERO, Money::plus);
+        Money subtotal = totals.subtotal;
+        if (subtotal == null) {
+            subtotal = sumItems();
+            totals.subtotal = subtotal;
+            totals.exact = items.stream().allMatch(i -> i.getUnitPrice().hasOfficialScale());
+        } else if (OrderTotals.isConsistencyCheckEnabled()) {
+            ensureConsistent("subtotal", subtotal, sumItems());
+        }
+        return subtotal;
     }
 
     @Transient
     public Money getDiscountTotal() {
-        if (coupon == null) return Money.ZERO;
-        switch (this.coupon.getType()) {
-            case FIXED -> {
-                return coupon.getValue();
-            }
-            case PERCENT -> {
-                return getSubtotal().percentageOf(coupon.getValue().toOfficialScale());
-            }
-            default -> {
-                return Money.ZERO;
-            }
+        Money discount = totals.discount;
+        if (discount == null) {
+            discount = computeDiscount(getSubtotal());
+            totals.discount = discount;
+        } else if (OrderTotals.isConsistencyCheckEnabled()) {
+            ensureConsistent("desconto", discount, computeDiscount(sumItems()));
         }
+        return discount;
     }
 
     @Transient
     public Money getTotalAmount() {
-        return getSubtotal().minus(getDiscountTotal());
+        Money total = totals.total;
+        if (total == null) {
+            total = getSubtotal().minus(getDiscountTotal());
+            totals.total = total;
+        } else if (OrderTotals.isConsistencyCheckEnabled()) {
+            Money subtotal = sumItems();
+            ensureConsistent("total", total, subtotal.minus(computeDiscount(subtotal)));
+        }
+        return total;
     }
 
     public void addItem(OrderItem item) {
         items.add(item);
         item.setOrder(this);
+        Money subtotal = totals.subtotal;
+        if (subtotal != null && item.getUnitPrice() != null) {
+            totals.subtotal = subtotal.plus(item.getFinalPrice());
+            totals.exact &= item.getUnitPrice().hasOfficialScale();
+            totals.invalidateDerived();
+        } else {
+            totals.invalidate();
+        }
     }
 
     public void removeItem(OrderItem item) {
         if (item == null) return;
-        items.remove(item);
+        // Por identidade: equals é por id e itens ainda não salvos (id nulo) são todos iguais.
+        int index = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) {
+                index = i;
+                break;
+            }
+        }
         item.setOrder(null);
+        if (index < 0) return;
+        OrderItem removed = items.remove(index);
+        Money subtotal = totals.subtotal;
+        if (subtotal != null && totals.exact && removed.getUnitPrice() != null) {
+            totals.subtotal = subtotal.minus(removed.getFinalPrice());
+            totals.invalidateDerived();
+        } else {
+            totals.invalidate();
+        }
+    }
+
+    /** Chamado pelo {@link OrderItem} quando preço ou tipo de um item já adicionado muda. */
+    void invalidateTotals() {
+        totals.invalidate();
     }
 
     public void applyCoupon(Coupon coupon) {
         if (coupon.getIsActive() == false) {
-            throw new BadRequestException("Cupom inativo.", "Verifique o cupom informado.");
+            throw INACTIVE_COUPON;
         }
+        checkCoupon(coupon.getType(), coupon.getValue());
+        attachCoupon(coupon);
+    }
+
+    /**
+     * Valida um cupom para este pedido só com tipo e valor, sem carregar a entidade (o resgate no
+     * checkout valida a partir do {@code ActiveCoupon} em cache).
+     */
+    public void checkCoupon(CouponType type, Money value) {
         if (this.status == OrderStatus.CANCELLED || this.status == OrderStatus.PAID) {
-            throw new BadRequestException(
-                    "Não é possível aplicar cupom em pedidos cancelados ou pagos.",
-                    "Verifique o status do pedido.");
+            throw COUPON_ON_CLOSED_ORDER;
         }
-        switch (coupon.getType()) {
+        switch (type) {
             case FIXED -> {
-                if (getSubtotal().minus(coupon.getValue()).isNegative()) {
-                    throw new BadRequestException(
-                            "O valor do cupom não pode ser maior que o subtotal do pedido.",
-                            "Verifique o cupom informado.");
+                if (getSubtotal().minus(value).isNegative()) {
+                    throw COUPON_ABOVE_SUBTOTAL;
                 }
             }
             case PERCENT -> {
-                if (coupon.getValue().isGreaterThan(100)) {
-                    throw new BadRequestException(
-                            "O valor do cupom percentual não pode ser maior que 100%.",
-                            "Verifique o cupom informado.");
+                if (value.isGreaterThan(100)) {
+                    throw COUPON_ABOVE_100_PERCENT;
                 }
             }
             default -> {
-                throw new BadRequestException(
-                        "Tipo de cupom inválido.", "Verifique o cupom informado.");
+                throw INVALID_COUPON_TYPE;
             }
         }
+    }
+
+    /**
+     * Liga ao pedido um cupom já validado (ver {@link #checkCoupon}). Não lê o cupom: aceita
+     * uma referência ainda não carregada.
+     */
+    public void attachCoupon(Coupon coupon) {
         this.coupon = coupon;
+        totals.invalidateDerived();
     }
 
     public Optional<String> getCouponCode() {
@@ -130,4 +214,38 @@ public class Order {
     public boolean isPayable() {
         return this.status == OrderStatus.PENDING;
     }
+
+    /** Liga a conferência dos totais memoizados contra um recálculo completo (uso em testes). */
+    static void setTotalsConsistencyCheck(boolean enabled) {
+        OrderTotals.setConsistencyCheck(enabled);
+    }
+
+    private Money sumItems() {
+        MoneyAccumulator subtotal = new MoneyAccumulator(Money.DEFAULT_CURRENCY);
+        for (OrderItem item : items) item.addFinalPriceTo(subtotal);
+        return subtotal.toMoney();
+    }
+
+    private Money computeDiscount(Money subtotal) {
+        if (coupon == null) return Money.ZERO;
+        switch (this.coupon.getType()) {
+            case FIXED -> {
+                return coupon.getValue();
+            }
+            case PERCENT -> {
+                return subtotal.percentageOf(coupon.getValue().toOfficialScale());
+            }
+            default -> {
+                return Money.ZERO;
+            }
+        }
+    }
+
+    private static void ensureConsistent(String name, Money memoized, Money recomputed) {
+        if (!memoized.equals(recomputed)) {
+            throw new IllegalStateException(
+                    "Total memoizado do pedido divergente (%s): %s vs %s"
+                            .formatted(name, memoized, recomputed));
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.modules.room.Room;
+import br.com.joaobarbosa.modules.room.RoomRepository;
+import br.com.joaobarbosa.modules.seats.SeatHold;
+import br.com.joaobarbosa.modules.seats.SeatHoldExpiryService;
+import br.com.joaobarbosa.modules.seats.SeatMapService;
+import br.com.joaobarbosa.modules.seats.SeatPosition;
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import br.com.joaobarbosa.shared.exceptions.client.NotFoundException;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Inserção em lote de pedidos novos (reservas de grupo, cargas). Com {@code
+ * hibernate.jdbc.batch_size} e {@code order_inserts} os INSERTs de {@code orders} e {@code
+ * order_items} saem em lotes JDBC, que o driver do Postgres reescreve em INSERTs multi-linha
+ * ({@code reWriteBatchedInserts}). Aqui o contexto de persistência é descarregado e limpo a cada
+ * lote, para que a memória não cresça com o número de pedidos.
+ *
+ * <p>Os assentos de cada pedido não cancelado são reservados no {@link SeatMapService} antes do
+ * INSERT, como no checkout normal: se a transação não confirmar eles voltam ao mapa, e os pedidos
+ * PENDING só passam a contar a janela de checkout depois do commit.
+ */
+@Slf4j
+@Service
+public class OrderBulkInsertService {
+    private final EntityManager entityManager;
+    private final RoomRepository roomRepository;
+    private final SeatMapService seatMapService;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final int batchSize;
+
+    private record HeldSeats(Order order, SeatHold hold) {}
+
+    public OrderBulkInsertService(
+            EntityManager entityManager,
+            RoomRepository roomRepository,
+            SeatMapService seatMapService,
+            SeatHoldExpiryService seatHoldExpiryService,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.roomRepository = roomRepository;
+        this.seatMapService = seatMapService;
+        this.seatHoldExpiryService = seatHoldExpiryService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Persiste pedidos novos (sem id) com seus itens em uma única transação e devolve os ids na
+     * mesma ordem. Os pedidos ficam destacados ao final: use os ids para recarregá-los. Se algum
+     * assento já estiver ocupado, nada é gravado ({@code ConflictException}).
+     */
+    @Transactional
+    public List<UUID> insertAll(Collection<Order> orders) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+
+        List<HeldSeats> held = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(seatHoldSynchronization(held));
+        Map<UUID, Room> rooms = new HashMap<>();
+
+        List<UUID> ids = new ArrayList<>(orders.size());
+        int pendingRows = 0;
+        for (Order order : orders) {
+            if (order.getId() != null) {
+                throw new IllegalArgumentException("Pedido já persistido: " + order.getId());
+            }
+            SeatHold hold = holdSeats(order, rooms);
+            if (hold != null) held.add(new HeldSeats(order, hold));
+            entityManager.persist(order);
+            ids.add(order.getId());
+
+            // um pedido nunca é dividido entre lotes: pedido e itens descarregam juntos
+            pendingRows += 1 + order.getItems().size();
+            if (pendingRows >= batchSize) {
+                flushAndClear();
+                pendingRows = 0;
+            }
+        }
+        if (pendingRows > 0) flushAndClear();
+
+        log.debug("{} pedidos inseridos em lote (batch_size={})", ids.size(), batchSize);
+        return ids;
+    }
+
+    /** Reserva no mapa os assentos do pedido; {@code null} se não houver o que reservar. */
+    private SeatHold holdSeats(Order order, Map<UUID, Room> rooms) {
+        if (order.getStatus() == OrderStatus.CANCELLED) return null;
+
+        UUID roomId = null;
+        List<String> labels = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            if (item.getRoomId() == null) continue;
+            if (roomId != null && !roomId.equals(item.getRoomId())) {
+                throw new BadRequestException("Um pedido só pode ter assentos de uma sala.");
+            }
+            roomId = item.getRoomId();
+            if (item.getSeatPosition() == null) {
+                item.setSeatPosition(SeatPosition.parse(item.getSeatLabel()));
+            }
+            labels.add(item.getSeatLabel());
+        }
+        if (roomId == null) return null;
+
+        return seatMapService.holdSeats(rooms.computeIfAbsent(roomId, this::findRoom), labels);
+    }
+
+    private Room findRoom(UUID roomId) {
+        return roomRepository
+                .findById(roomId)
+                .orElseThrow(() -> new NotFoundException("Sala não encontrada: " + roomId));
+    }
+
+    // Rollback devolve os assentos ao mapa; commit começa a janela de checkout dos PENDING.
+    private TransactionSynchronization seatHoldSynchronization(List<HeldSeats> held) {
+        return new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (HeldSeats seats : held) {
+                    if (status != STATUS_COMMITTED) {
+                        seatMapService.releaseSeats(seats.hold());
+                    } else if (seats.order().getStatus() == OrderStatus.PENDING) {
+                        seatHoldExpiryService.track(seats.order().getId(), seats.hold());
+                    }
+                }
+            }
+        };
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
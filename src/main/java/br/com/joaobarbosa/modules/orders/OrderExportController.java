@@ -0,0 +1,33 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.config.security.annotations.RequireAdmin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+public class OrderExportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * Dump completo dos pedidos para a conciliação noturna, um pedido JSON por linha. Roda como
+     * requisição assíncrona: o limite de tempo é o spring.mvc.async.request-timeout.
+     */
+    @GetMapping("/export")
+    @RequireAdmin
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"")
+                .body(orderExportService::exportAll);
+    }
+}
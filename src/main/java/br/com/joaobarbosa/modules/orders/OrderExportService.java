@@ -0,0 +1,101 @@
+package br.com.joaobarbosa.modules.orders;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Exporta todos os pedidos como NDJSON (um pedido por linha, com itens e totais). Lê os pedidos em
+ * stream, escreve cada um direto na saída e o destaca do contexto de persistência em seguida,
+ * então a memória usada não depende do tamanho da tabela. Valores vão em unidades menores
+ * (centavos) junto do código da moeda.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+    private static final int FLUSH_EVERY = 200;
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    public void exportAll(OutputStream out) throws IOException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            // NDJSON: cada pedido termina em '\n', sem o espaço que o Jackson põe entre raízes
+            json.setRootValueSeparator(null);
+            long exported =
+                    transaction.execute(
+                            status -> {
+                                try (Stream<Order> orders = orderRepository.streamAllForExport()) {
+                                    return writeAll(orders, json);
+                                }
+                            });
+            log.info("Exportação de pedidos concluída: {} pedidos", exported);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeAll(Stream<Order> orders, JsonGenerator json) {
+        long count = 0;
+        for (Order order : (Iterable<Order>) orders::iterator) {
+            try {
+                writeOrder(order, json);
+                if (++count % FLUSH_EVERY == 0) json.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // cascade ALL destaca os itens; o cupom não tem cascade e ficaria gerenciado, segurando
+            // pelo lado inverso (Coupon.order) o pedido e os itens já exportados
+            if (order.getCoupon() != null) entityManager.detach(order.getCoupon());
+            entityManager.detach(order);
+        }
+        return count;
+    }
+
+    private void writeOrder(Order order, JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", order.getId().toString());
+        json.writeStringField("userId", order.getUserId().toString());
+        json.writeStringField("status", order.getStatus().name());
+        json.writeStringField("createdAt", String.valueOf(order.getCreatedAt()));
+        json.writeStringField("couponCode", order.getCouponCode().orElse(null));
+        // valores em unidades menores da moeda do próprio pedido, não da moeda padrão
+        json.writeStringField("currency", order.getTotalAmount().getCurrencyCode());
+        json.writeNumberField("subtotalMinor", order.getSubtotal().toMinorUnits());
+        json.writeNumberField("discountMinor", order.getDiscountTotal().toMinorUnits());
+        json.writeNumberField("totalMinor", order.getTotalAmount().toMinorUnits());
+
+        json.writeArrayFieldStart("items");
+        for (OrderItem item : order.getItems()) {
+            json.writeStartObject();
+            json.writeStringField("id", item.getId().toString());
+            json.writeStringField("seatId", item.getSeatId().toString());
+            json.writeStringField("seatLabel", item.getSeatLabel());
+            json.writeStringField(
+                    "roomId", item.getRoomId() != null ? item.getRoomId().toString() : null);
+            json.writeBooleanField("halfPrice", Boolean.TRUE.equals(item.getIsKindHalf()));
+            json.writeStringField("currency", item.getUnitPrice().getCurrencyCode());
+            json.writeNumberField("unitPriceMinor", item.getUnitPrice().toMinorUnits());
+            json.writeNumberField("finalPriceMinor", item.getFinalPrice().toMinorUnits());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.joaobarbosa.modules.orders;
 
+import br.com.joaobarbosa.modules.seats.SeatPosition;
 import br.com.joaobarbosa.shared.value_objects.Money;
+import br.com.joaobarbosa.shared.value_objects.MoneyAccumulator;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.*;
@@ -11,9 +13,13 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "order_items")
+@Table(
+        name = "order_items",
+        indexes = @Index(name = "idx_order_items_room_seat", columnList = "room_id, seat_position"))
 @EqualsAndHashCode(of = "id")
 public class OrderItem {
+    static final double HALF_PRICE_FACTOR = 0.5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     UUID id;
@@ -28,16 +34,44 @@ public class OrderItem {
     @Column(name = "seat_label", nullable = false)
     private String seatLabel;
 
+    // Linha e coluna empacotadas num int (SeatPosition); nulo só em itens ainda não migrados,
+    // que o SeatPositionBackfill preenche a partir do seat_label.
+    @Column(name = "seat_position")
+    private SeatPosition seatPosition;
+
+    // Sala do assento; nulo em itens anteriores à coluna (não entram no mapa de ocupação).
+    @Column(name = "room_id")
+    private UUID roomId;
+
     @Column(name = "is_kind_half", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean isKindHalf = false;
 
     @Embedded private Money unitPrice;
 
+    public void setUnitPrice(Money unitPrice) {
+        this.unitPrice = unitPrice;
+        if (order != null) order.invalidateTotals();
+    }
+
+    public void setIsKindHalf(Boolean isKindHalf) {
+        this.isKindHalf = isKindHalf;
+        if (order != null) order.invalidateTotals();
+    }
+
     @Transient
     public Money getFinalPrice() {
         if (unitPrice == null) {
             throw new NullPointerException("unitPrice não pode ser nulo ao calcular finalPrice");
         }
-        return isKindHalf ? unitPrice.times(0.5) : unitPrice;
+        return isKindHalf ? unitPrice.times(HALF_PRICE_FACTOR) : unitPrice;
+    }
+
+    /** Soma o preço final no acumulador sem criar o Money intermediário da meia-entrada. */
+    public void addFinalPriceTo(MoneyAccumulator accumulator) {
+        if (unitPrice == null) {
+            throw new NullPointerException("unitPrice não pode ser nulo ao calcular finalPrice");
+        }
+        if (isKindHalf) accumulator.addTimes(unitPrice, HALF_PRICE_FACTOR);
+        else accumulator.add(unitPrice);
     }
 }
@@ -0,0 +1,61 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.modules.seats.SeatPosition;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
+
+    // Assentos de pedidos não cancelados; deve ser consumido dentro de uma transação.
+    @Query(
+            "select new br.com.joaobarbosa.modules.orders.OccupiedSeat(i.roomId, i.seatPosition)"
+                    + " from OrderItem i"
+                    + " where i.roomId is not null and i.seatPosition is not null"
+                    + " and i.order.status <> :cancelled")
+    Stream<OccupiedSeat> streamOccupiedSeats(@Param("cancelled") OrderStatus cancelled);
+
+    // Usa o índice (room_id, seat_position): só inteiros, sem ler seat_label.
+    @Query(
+            "select i.seatPosition from OrderItem i"
+                    + " where i.roomId = :roomId and i.seatPosition is not null"
+                    + " and i.order.status <> :cancelled")
+    List<SeatPosition> findOccupiedSeatPositions(
+            @Param("roomId") UUID roomId, @Param("cancelled") OrderStatus cancelled);
+
+    // Itens sem seat_position em ordem de id, para a migração em lotes (keyset a partir de :after).
+    @Query(
+            value =
+                    "select * from order_items where seat_position is null and id > :after"
+                            + " order by id limit :limit",
+            nativeQuery = true)
+    List<OrderItem> findWithoutSeatPosition(
+            @Param("after") UUID after, @Param("limit") int limit);
+
+    // Só os pedidos ainda na janela de checkout (ou vencidos com a aplicação fora): lista pequena.
+    @Query(
+            "select new br.com.joaobarbosa.modules.orders.PendingSeat("
+                    + "o.id, o.createdAt, i.roomId, i.seatPosition)"
+                    + " from OrderItem i join i.order o"
+                    + " where o.status = :pending"
+                    + " and i.roomId is not null and i.seatPosition is not null"
+                    + " order by o.id")
+    List<PendingSeat> findPendingSeats(@Param("pending") OrderStatus pending);
+
+    default Stream<OccupiedSeat> streamOccupiedSeats() {
+        return streamOccupiedSeats(OrderStatus.CANCELLED);
+    }
+
+    default List<SeatPosition> findOccupiedSeatPositions(UUID roomId) {
+        return findOccupiedSeatPositions(roomId, OrderStatus.CANCELLED);
+    }
+
+    default List<PendingSeat> findPendingSeats() {
+        return findPendingSeats(OrderStatus.PENDING);
+    }
+}
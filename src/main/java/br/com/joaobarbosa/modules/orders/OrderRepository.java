@@ -0,0 +1,48 @@
+package br.com.joaobarbosa.modules.orders;
+
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<Order, UUID> {
+
+    /**
+     * Cancela, em um único UPDATE, os pedidos do lote que ainda estão PENDING e devolve os ids
+     * efetivamente cancelados (pedidos pagos nesse meio-tempo ficam de fora).
+     */
+    @Transactional
+    @Query(
+            value =
+                    "update orders set status = 'CANCELLED', updated_at = now()"
+                            + " where id in (:ids) and status = 'PENDING'"
+                            + " returning id",
+            nativeQuery = true)
+    List<UUID> cancelPendingOrders(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Todos os pedidos com itens e cupom, lidos em blocos do cursor do banco (fetch size) para
+     * exportação. Ordenado pelo id para que as linhas de um mesmo pedido venham juntas. Deve ser
+     * consumido dentro de uma transação, destacando cada pedido após o uso.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(
+            "select o from orders o"
+                    + " left join fetch o.items"
+                    + " left join fetch o.coupon"
+                    + " order by o.id")
+    Stream<Order> streamAllForExport();
+}
@@ -0,0 +1,39 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.shared.value_objects.Money;
+
+/**
+ * Estado memoizado dos totais de um {@link Order}. O subtotal é mantido incrementalmente por
+ * addItem/removeItem; desconto e total são derivados dele sob demanda. {@code null} significa
+ * "recalcular" (ex.: logo após o carregamento pelo JPA).
+ */
+final class OrderTotals {
+    // Quando ligado, toda leitura confere o valor memoizado contra um recálculo completo.
+    private static volatile boolean consistencyCheck = false;
+
+    Money subtotal;
+    Money discount;
+    Money total;
+
+    // Enquanto todos os preços estão na escala oficial a soma é exata, e remover um item é só
+    // subtrair. Com valores de mais casas o arredondamento depende da ordem: recalculamos.
+    boolean exact = true;
+
+    static boolean isConsistencyCheckEnabled() {
+        return consistencyCheck;
+    }
+
+    static void setConsistencyCheck(boolean enabled) {
+        consistencyCheck = enabled;
+    }
+
+    void invalidate() {
+        subtotal = null;
+        invalidateDerived();
+    }
+
+    void invalidateDerived() {
+        discount = null;
+        total = null;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.joaobarbosa.modules.orders;
+
+import br.com.joaobarbosa.modules.seats.SeatPosition;
+import java.time.Instant;
+import java.util.UUID;
+
+/** Assento de um pedido PENDING, usado para retomar a expiração da reserva após um restart. */
+public record PendingSeat(UUID orderId, Instant createdAt, UUID roomId, SeatPosition position) {}
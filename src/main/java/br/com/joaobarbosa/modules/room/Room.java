@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.UUID;
@@ -13,7 +14,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity(name = "rooms")
-@Table(name = "rooms")
+@Table(
+    name = "rooms",
+    indexes = @Index(name = "idx_rooms_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @Builder(setterPrefix = "with")
@@ -1,10 +1,13 @@
 package br.com.joaobarbosa.modules.room;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import br.com.joaobarbosa.modules.room.dto.SeatRecommendationResponse;
 import br.com.joaobarbosa.modules.room.dto.UpdateRoomRequest;
+import br.com.joaobarbosa.modules.seats.SeatLabels;
+import br.com.joaobarbosa.shared.pagination.CursorPage;
+import br.com.joaobarbosa.shared.pagination.PageSizeResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.joaobarbosa.modules.room.dto.CreateRoomRequest;
@@ -24,9 +28,11 @@ import jakarta.validation.Valid;
 public class RoomController {
 
   private final RoomService roomService;
+  private final PageSizeResolver pageSizeResolver;
 
-  public RoomController(RoomService roomService) {
+  public RoomController(RoomService roomService, PageSizeResolver pageSizeResolver) {
     this.roomService = roomService;
+    this.pageSizeResolver = pageSizeResolver;
   }
 
   @PostMapping
@@ -37,8 +43,10 @@ public class RoomController {
   }
 
   @GetMapping
-  public ResponseEntity<List<Room>> getAllRooms() {
-    List<Room> rooms = roomService.getAllRooms();
+  public ResponseEntity<CursorPage<Room>> getAllRooms(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    CursorPage<Room> rooms = roomService.getRoomsPage(cursor, pageSizeResolver.resolve(size));
     return new ResponseEntity<>(rooms, HttpStatus.OK);
   }
 
@@ -48,6 +56,20 @@ public class RoomController {
     return new ResponseEntity<>(room, HttpStatus.OK);
   }
 
+  // Chamado a cada mudança do tamanho do grupo: 204 quando não há bloco livre, sem corpo de erro.
+  @GetMapping("/{id}/seats/best")
+  public ResponseEntity<SeatRecommendationResponse> recommendSeats(
+      @PathVariable UUID id, @RequestParam int size) {
+    return roomService
+        .recommendSeats(id, size)
+        .map(
+            block ->
+                new ResponseEntity<>(
+                    new SeatRecommendationResponse(SeatLabels.rowLabel(block.row()), block.labels()),
+                    HttpStatus.OK))
+        .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<Room> updateRoom(
       @PathVariable UUID id, @RequestBody @Valid UpdateRoomRequest roomRequest) {
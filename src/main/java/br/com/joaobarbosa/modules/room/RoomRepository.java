@@ -1,10 +1,27 @@
 package br.com.joaobarbosa.modules.room;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, UUID> {
-}
\ No newline at end of file
+
+  // Keyset sobre (created_at, id), apoiado no índice idx_rooms_created_at_id. Comparação por valor
+  // de linha, para o Postgres usar a faixa do índice em vez de varrer desde o começo.
+  @Query("select r from rooms r order by r.createdAt, r.id")
+  List<Room> findFirstPage(Limit limit);
+
+  @Query(
+      "select r from rooms r"
+          + " where (r.createdAt, r.id) > (:createdAt, :id)"
+          + " order by r.createdAt, r.id")
+  List<Room> findPageAfter(
+      @Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+}
@@ -1,18 +1,28 @@
 package br.com.joaobarbosa.modules.room;
 
+import br.com.joaobarbosa.modules.seats.SeatBlock;
+import br.com.joaobarbosa.modules.seats.SeatFinder;
+import br.com.joaobarbosa.modules.seats.SeatMap;
+import br.com.joaobarbosa.modules.seats.SeatMapService;
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
 import br.com.joaobarbosa.shared.exceptions.client.NotFoundException;
+import br.com.joaobarbosa.shared.pagination.Cursor;
+import br.com.joaobarbosa.shared.pagination.CursorPage;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service; // CORREÇÃO AQUI
 
 @Service
 public class RoomService {
 
   private final RoomRepository roomRepository;
+  private final SeatMapService seatMapService;
 
-  public RoomService(RoomRepository roomRepository) {
+  public RoomService(RoomRepository roomRepository, SeatMapService seatMapService) {
     this.roomRepository = roomRepository;
+    this.seatMapService = seatMapService;
   }
 
   public Room createRoom(String name, Integer rows, Integer cols) {
@@ -24,8 +34,17 @@ public class RoomService {
     return roomRepository.save(newRoom);
   }
 
-  public List<Room> getAllRooms() {
-    return roomRepository.findAll();
+  /** Página de salas em ordem de criação; {@code cursor} nulo começa do início. */
+  public CursorPage<Room> getRoomsPage(String cursor, int size) {
+    Limit limit = Limit.of(size + 1);
+    List<Room> rows;
+    if (cursor == null) {
+      rows = roomRepository.findFirstPage(limit);
+    } else {
+      Cursor after = Cursor.decode(cursor);
+      rows = roomRepository.findPageAfter(after.createdAt(), after.id(), limit);
+    }
+    return CursorPage.of(rows, size, r -> new Cursor(r.getCreatedAt(), r.getId()));
   }
 
   public Room getRoomById(UUID id) {
@@ -49,7 +68,21 @@ public class RoomService {
     updatedRows.ifPresent(existingRoom::setRows);
     updatedCols.ifPresent(existingRoom::setCols);
 
-    return roomRepository.save(existingRoom);
+    Room saved = roomRepository.save(existingRoom);
+    // troca já o mapa em memória: recommendSeats confia nele para as dimensões da sala
+    if (updatedRows.isPresent() || updatedCols.isPresent()) seatMapService.getSeatMap(saved);
+    return saved;
+  }
+
+  /** Chamado a cada tecla: usa o mapa em memória e só vai ao banco se a sala ainda não tem mapa. */
+  public Optional<SeatBlock> recommendSeats(UUID id, int groupSize) {
+    SeatMap seatMap =
+        seatMapService.findSeatMap(id).orElseGet(() -> seatMapService.getSeatMap(getRoomById(id)));
+    if (groupSize < 1 || groupSize > seatMap.cols()) {
+      throw new BadRequestException(
+          "O tamanho do grupo deve estar entre 1 e " + seatMap.cols() + " assentos.");
+    }
+    return SeatFinder.findBest(seatMap, groupSize);
   }
 
   public void deleteRoom(UUID id) {
@@ -57,5 +90,6 @@ public class RoomService {
       throw new NotFoundException("Sala não encontrada com ID: " + id);
     }
     roomRepository.deleteById(id);
+    seatMapService.evict(id);
   }
 }
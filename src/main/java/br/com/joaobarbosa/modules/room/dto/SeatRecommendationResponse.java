@@ -0,0 +1,5 @@
+package br.com.joaobarbosa.modules.room.dto;
+
+import java.util.List;
+
+public record SeatRecommendationResponse(String row, List<String> seats) {}
@@ -0,0 +1,15 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Bloco de {@code size} assentos vizinhos em uma linha, a partir de {@code startCol}. */
+public record SeatBlock(int row, int startCol, int size) {
+
+  public List<String> labels() {
+    String rowLabel = SeatLabels.rowLabel(row);
+    List<String> labels = new ArrayList<>(size);
+    for (int col = startCol; col < startCol + size; col++) labels.add(rowLabel + (col + 1));
+    return labels;
+  }
+}
@@ -0,0 +1,87 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.Optional;
+
+/**
+ * Recomenda o melhor bloco de assentos vizinhos livres: o mais próximo do centro da sala
+ * (distância euclidiana entre o meio do bloco e o meio da grade).
+ *
+ * <p>Para salas de até 64 colunas cada linha vira um long: as posições onde começam {@code n}
+ * assentos livres saem de O(log n) ANDs com deslocamento, e o início mais próximo do centro é
+ * achado com numberOfTrailingZeros/numberOfLeadingZeros. Uma sala 40x60 é respondida em poucas
+ * centenas de operações, sem alocar nada além do resultado.
+ */
+public final class SeatFinder {
+  private SeatFinder() {}
+
+  public static Optional<SeatBlock> findBest(SeatMap seatMap, int size) {
+    int rows = seatMap.rows();
+    int cols = seatMap.cols();
+    if (size <= 0 || size > cols) {
+      throw new IllegalArgumentException("size deve estar entre 1 e " + cols);
+    }
+
+    int bestRow = -1;
+    int bestStart = -1;
+    long bestScore = Long.MAX_VALUE;
+    for (int row = 0; row < rows; row++) {
+      // Distâncias em meias-posições, para manter tudo inteiro.
+      long rowDistance = Math.abs(2 * row - (rows - 1));
+      if (rowDistance * rowDistance >= bestScore) continue;
+
+      int start = cols <= Long.SIZE ? nearestStart(seatMap, row, size) : nearestStartScan(seatMap, row, size);
+      if (start < 0) continue;
+
+      long colDistance = Math.abs(2 * start + size - cols);
+      long score = rowDistance * rowDistance + colDistance * colDistance;
+      if (score < bestScore) {
+        bestScore = score;
+        bestRow = row;
+        bestStart = start;
+      }
+    }
+    return bestRow < 0 ? Optional.empty() : Optional.of(new SeatBlock(bestRow, bestStart, size));
+  }
+
+  // Início de bloco livre mais próximo do centro da linha, ou -1.
+  private static int nearestStart(SeatMap seatMap, int row, int size) {
+    int cols = seatMap.cols();
+    long free = ~seatMap.rowBits(row);
+    if (cols < Long.SIZE) free &= (1L << cols) - 1;
+
+    // Bit i ligado => colunas i..i+size-1 livres. Cada passo dobra o comprimento coberto.
+    long starts = free;
+    for (int covered = 1; covered < size && starts != 0; ) {
+      int step = Math.min(covered, size - covered);
+      starts &= starts >>> step;
+      covered += step;
+    }
+    if (starts == 0) return -1;
+
+    int ideal = (cols - size) / 2;
+    long above = starts & (-1L << ideal);
+    long below = starts & ((1L << ideal) - 1);
+    int after = above != 0 ? Long.numberOfTrailingZeros(above) : -1;
+    int before = below != 0 ? Long.SIZE - 1 - Long.numberOfLeadingZeros(below) : -1;
+    if (after < 0) return before;
+    if (before < 0) return after;
+    return Math.abs(2 * before + size - cols) <= Math.abs(2 * after + size - cols) ? before : after;
+  }
+
+  // Caminho genérico para salas com mais de 64 colunas.
+  private static int nearestStartScan(SeatMap seatMap, int row, int size) {
+    int cols = seatMap.cols();
+    int best = -1;
+    int run = 0;
+    for (int col = 0; col < cols; col++) {
+      run = seatMap.isOccupied(seatMap.indexOf(row, col)) ? 0 : run + 1;
+      if (run >= size) {
+        int start = col - size + 1;
+        if (best < 0 || Math.abs(2 * start + size - cols) < Math.abs(2 * best + size - cols)) {
+          best = start;
+        }
+      }
+    }
+    return best;
+  }
+}
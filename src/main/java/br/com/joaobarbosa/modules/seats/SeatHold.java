@@ -0,0 +1,12 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Grupo de assentos reservado atomicamente em um {@link SeatMap}. Se o pedido não for concluído,
+ * devolva os assentos com {@link SeatMapService#releaseSeats(SeatHold)}. Guarda posições
+ * (linha/coluna), e não índices do bitmap, porque a sala pode ser redimensionada enquanto a
+ * reserva existe.
+ */
+public record SeatHold(UUID roomId, List<String> seatLabels, List<SeatPosition> positions) {}
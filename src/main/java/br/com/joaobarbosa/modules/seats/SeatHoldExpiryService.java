@@ -0,0 +1,164 @@
+package br.com.joaobarbosa.modules.seats;
+
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import br.com.joaobarbosa.modules.orders.OrderRepository;
+import br.com.joaobarbosa.modules.orders.PendingSeat;
+import br.com.joaobarbosa.shared.utils.TimingWheel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Expira as reservas de assentos de pedidos PENDING após a janela de checkout. Os prazos ficam em
+ * uma {@link TimingWheel} (e não em um ScheduledFuture por reserva); a cada tick os pedidos
+ * vencidos são cancelados em lotes e seus assentos devolvidos ao {@link SeatMapService}. Na
+ * subida, os pedidos PENDING do banco voltam para a roda com o que resta da janela.
+ */
+@Slf4j
+@Service
+public class SeatHoldExpiryService {
+  private static final int BATCH_SIZE = 500;
+
+  private final SeatMapService seatMapService;
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final Duration holdTtl;
+  private final Duration tick;
+  private final TimingWheel<UUID> wheel;
+  private final ConcurrentMap<UUID, TrackedHold> holds = new ConcurrentHashMap<>();
+
+  private record TrackedHold(SeatHold hold, TimingWheel.Timeout<UUID> timeout) {}
+
+  public SeatHoldExpiryService(
+      SeatMapService seatMapService,
+      OrderRepository orderRepository,
+      OrderItemRepository orderItemRepository,
+      @Value("${app.seats.hold-ttl:10m}") Duration holdTtl,
+      @Value("${app.seats.hold-tick:1s}") Duration tick) {
+    this.seatMapService = seatMapService;
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.holdTtl = holdTtl;
+    this.tick = tick;
+    this.wheel = new TimingWheel<>(tick, holdTtl);
+  }
+
+  /** Passa a contar a janela de checkout do pedido; ao expirar, os assentos são liberados. */
+  public void track(UUID orderId, SeatHold hold) {
+    track(orderId, hold, holdTtl);
+  }
+
+  private void track(UUID orderId, SeatHold hold, Duration remaining) {
+    TrackedHold previous =
+        holds.put(orderId, new TrackedHold(hold, wheel.schedule(orderId, remaining)));
+    if (previous != null) previous.timeout().cancel();
+  }
+
+  /** Pedido pago (ou cancelado por outro caminho): para de acompanhar, sem mexer nos assentos. */
+  public void untrack(UUID orderId) {
+    TrackedHold tracked = holds.remove(orderId);
+    if (tracked != null) tracked.timeout().cancel();
+  }
+
+  public int trackedHolds() {
+    return holds.size();
+  }
+
+  /**
+   * Após um restart o {@link SeatMapService#rebuildAll} já marcou os assentos dos pedidos PENDING,
+   * mas a roda começa vazia. Cada pedido volta a ser acompanhado pelo que resta da janela ({@code
+   * createdAt + holdTtl - agora}); os que venceram com a aplicação fora são cancelados na hora.
+   * Um pedido reserva assentos de uma única sala: itens de outra sala não entram no hold.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+  @EventListener(ApplicationReadyEvent.class)
+  public void restorePendingHolds() {
+    Map<UUID, List<PendingSeat>> byOrder = new LinkedHashMap<>();
+    for (PendingSeat seat : orderItemRepository.findPendingSeats()) {
+      byOrder.computeIfAbsent(seat.orderId(), id -> new ArrayList<>()).add(seat);
+    }
+
+    Instant now = Instant.now();
+    List<UUID> expired = new ArrayList<>();
+    byOrder.forEach(
+        (orderId, seats) -> {
+          PendingSeat first = seats.get(0);
+          List<SeatPosition> positions =
+              seats.stream()
+                  .filter(seat -> seat.roomId().equals(first.roomId()))
+                  .map(PendingSeat::position)
+                  .toList();
+          SeatHold hold = seatMapService.restoreHold(first.roomId(), positions);
+          if (hold == null) return;
+
+          Duration remaining = Duration.between(now, first.createdAt().plus(holdTtl));
+          track(orderId, hold, remaining);
+          if (remaining.isNegative() || remaining.isZero()) expired.add(orderId);
+        });
+
+    for (int from = 0; from < expired.size(); from += BATCH_SIZE) {
+      cancelBatch(expired.subList(from, Math.min(from + BATCH_SIZE, expired.size())));
+    }
+    log.info(
+        "Reservas retomadas: {} pedidos PENDING, {} já vencidos", byOrder.size(), expired.size());
+  }
+
+  @Scheduled(fixedDelayString = "${app.seats.hold-tick:1s}")
+  public void expireHolds() {
+    List<UUID> expired = new ArrayList<>();
+    wheel.advance(expired::add);
+    for (int from = 0; from < expired.size(); from += BATCH_SIZE) {
+      cancelBatch(expired.subList(from, Math.min(from + BATCH_SIZE, expired.size())));
+    }
+  }
+
+  private void cancelBatch(List<UUID> orderIds) {
+    List<UUID> cancelled;
+    try {
+      cancelled = orderRepository.cancelPendingOrders(orderIds);
+    } catch (RuntimeException e) {
+      // Tenta de novo no próximo tick; os assentos continuam reservados até lá.
+      log.error("Falha ao cancelar {} pedidos com reserva expirada", orderIds.size(), e);
+      orderIds.forEach(this::reschedule);
+      return;
+    }
+
+    for (UUID orderId : cancelled) {
+      TrackedHold tracked = holds.remove(orderId);
+      if (tracked == null) continue;
+      tracked.timeout().cancel();
+      try {
+        seatMapService.releaseSeats(tracked.hold());
+      } catch (RuntimeException e) {
+        // O pedido já está CANCELLED no banco: uma falha aqui não pode travar o resto do lote.
+        log.error("Falha ao liberar os assentos do pedido cancelado {}", orderId, e);
+      }
+    }
+    // Os demais já não estavam PENDING (ex.: pagos): só deixam de ser acompanhados.
+    orderIds.forEach(this::untrack);
+    log.info("Reservas expiradas: {} pedidos cancelados de {} vencidos", cancelled.size(), orderIds.size());
+  }
+
+  private void reschedule(UUID orderId) {
+    holds.computeIfPresent(
+        orderId,
+        (id, tracked) -> {
+          tracked.timeout().cancel();
+          return new TrackedHold(tracked.hold(), wheel.schedule(id, tick));
+        });
+  }
+}
@@ -0,0 +1,55 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rótulos pré-calculados de todos os assentos de uma grade ("A1".."Z40"), indexados como no
+ * {@link SeatMap}. Salas com as mesmas dimensões compartilham a tabela, e um mesmo rótulo é
+ * sempre a mesma instância de String em todas as tabelas.
+ */
+public final class SeatLabelTable {
+    private static final ConcurrentMap<Long, SeatLabelTable> TABLES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, String> LABELS = new ConcurrentHashMap<>();
+
+    private final int rows;
+    private final int cols;
+    private final String[] labels;
+
+    private SeatLabelTable(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.labels = new String[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                labels[row * cols + col] =
+                        LABELS.computeIfAbsent(
+                                SeatPosition.pack(row, col),
+                                packed ->
+                                        SeatLabels.labelOf(
+                                                SeatPosition.rowOf(packed),
+                                                SeatPosition.colOf(packed)));
+            }
+        }
+    }
+
+    public static SeatLabelTable of(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("A sala deve ter ao menos uma linha e uma coluna");
+        }
+        return TABLES.computeIfAbsent(
+                ((long) rows << 32) | cols, key -> new SeatLabelTable(rows, cols));
+    }
+
+    /** Rótulo do assento de índice {@code index} no {@link SeatMap}. */
+    public String label(int index) {
+        return labels[index];
+    }
+
+    public String label(SeatPosition position) {
+        if (position.row() >= rows || position.col() >= cols) {
+            throw new IllegalArgumentException("Assento fora da sala: " + position);
+        }
+        return labels[position.indexIn(cols)];
+    }
+}
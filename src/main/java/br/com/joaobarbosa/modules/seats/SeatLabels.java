@@ -0,0 +1,65 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Conversão entre rótulos de assento ("A1", "B12", "AA3") e posições na grade da sala. A linha é
+ * uma sequência de letras (A = 0, Z = 25, AA = 26...) e a coluna é numerada a partir de 1.
+ */
+public final class SeatLabels {
+    private SeatLabels() {}
+
+    /** Índice do assento na sala ({@code row * cols + col}) ou -1 se o rótulo for inválido. */
+    public static int indexOf(String label, int rows, int cols) {
+        int packed = positionOf(label);
+        if (packed < 0) return -1;
+        int row = SeatPosition.rowOf(packed);
+        int col = SeatPosition.colOf(packed);
+        return row < rows && col < cols ? row * cols + col : -1;
+    }
+
+    /** Linha e coluna do rótulo empacotadas como em {@link SeatPosition}, ou -1 se inválido. */
+    public static int positionOf(String label) {
+        if (label == null || label.isEmpty()) return -1;
+        int limit = SeatPosition.MAX_COORDINATE + 1;
+        int i = 0;
+        int row = 0;
+        while (i < label.length() && isLetter(label.charAt(i))) {
+            row = row * 26 + (Character.toUpperCase(label.charAt(i)) - 'A' + 1);
+            if (row > limit) return -1;
+            i++;
+        }
+        int col = 0;
+        int digitsStart = i;
+        while (i < label.length() && label.charAt(i) >= '0' && label.charAt(i) <= '9') {
+            col = col * 10 + (label.charAt(i) - '0');
+            if (col > limit) return -1;
+            i++;
+        }
+        if (row == 0 || i == digitsStart || i != label.length() || col == 0) return -1;
+        return SeatPosition.pack(row - 1, col - 1);
+    }
+
+    public static String labelOf(int row, int col) {
+        return rowLabel(row) + (col + 1);
+    }
+
+    public static String rowLabel(int row) {
+        if (row < 0) throw new IllegalArgumentException("row deve ser >= 0");
+        StringBuilder label = new StringBuilder(2);
+        for (int n = row + 1; n > 0; n = (n - 1) / 26) {
+            label.append((char) ('A' + (n - 1) % 26));
+        }
+        return label.reverse().toString();
+    }
+
+    /** Identificador estável do assento: o mesmo rótulo na mesma sala gera sempre o mesmo UUID. */
+    public static UUID seatId(UUID roomId, String label) {
+        return UUID.nameUUIDFromBytes((roomId + ":" + label).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.joaobarbosa.modules.seats;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mapa de ocupação de uma sala: um bit por assento (1 = ocupado) empacotado em palavras de 64
+ * bits, linha a linha ({@code índice = row * cols + col}). Marcar, liberar e consultar são O(1) e
+ * a contagem de ocupados é um popcount por palavra.
+ *
+ * <p>Thread-safe sem locks: toda escrita é um compare-and-set na palavra do assento. Grupos de
+ * assentos são reservados palavra a palavra em ordem crescente; se alguma palavra já tiver um dos
+ * assentos ocupado, os bits marcados até ali são desfeitos (tudo ou nada). Durante essa janela
+ * outro leitor pode ver o grupo parcialmente marcado, mas nunca dois grupos ficam com o mesmo
+ * assento.
+ */
+public final class SeatMap {
+    private final int rows;
+    private final int cols;
+    private final AtomicLongArray words;
+
+    public SeatMap(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("rows e cols devem ser > 0");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.words = new AtomicLongArray((rows * cols + 63) >>> 6);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int capacity() {
+        return rows * cols;
+    }
+
+    public int indexOf(int row, int col) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(col, cols);
+        return row * cols + col;
+    }
+
+    public boolean isOccupied(int index) {
+        Objects.checkIndex(index, capacity());
+        return (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /** Marca o assento como ocupado; {@code false} se ele já estava ocupado. */
+    public boolean hold(int index) {
+        Objects.checkIndex(index, capacity());
+        return claim(index >>> 6, 1L << index);
+    }
+
+    /**
+     * Marca todos os assentos ou nenhum. Retorna {@code false} (sem alterar nada) se algum deles
+     * já estava ocupado. Índices repetidos contam como um assento só.
+     */
+    public boolean holdAll(int... indices) {
+        int[] sorted = sortedCopy(indices);
+        int i = 0;
+        while (i < sorted.length) {
+            int word = sorted[i] >>> 6;
+            long mask = 0;
+            for (; i < sorted.length && sorted[i] >>> 6 == word; i++) mask |= 1L << sorted[i];
+            if (!claim(word, mask)) {
+                unclaimBefore(sorted, word);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Libera o assento; {@code false} se ele já estava livre. */
+    public boolean release(int index) {
+        Objects.checkIndex(index, capacity());
+        return unclaim(index >>> 6, 1L << index);
+    }
+
+    /** Libera um grupo previamente reservado com {@link #holdAll}. */
+    public void releaseAll(int... indices) {
+        unclaimBefore(sortedCopy(indices), Integer.MAX_VALUE);
+    }
+
+    /** Bits ocupados de uma linha (bit {@code c} = coluna {@code c}); exige {@code cols <= 64}. */
+    long rowBits(int row) {
+        Objects.checkIndex(row, rows);
+        if (cols > Long.SIZE) throw new IllegalStateException("linha não cabe em um long");
+        int start = row * cols;
+        int word = start >>> 6;
+        int offset = start & 63;
+        long bits = words.get(word) >>> offset;
+        if (offset != 0 && offset + cols > Long.SIZE) bits |= words.get(word + 1) << (Long.SIZE - offset);
+        return cols == Long.SIZE ? bits : bits & ((1L << cols) - 1);
+    }
+
+    public int occupiedCount() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) count += Long.bitCount(words.get(i));
+        return count;
+    }
+
+    public int availableCount() {
+        return capacity() - occupiedCount();
+    }
+
+    private boolean claim(int word, long mask) {
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) return false;
+        } while (!words.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private boolean unclaim(int word, long mask) {
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) == 0) return false;
+        } while (!words.compareAndSet(word, current, current & ~mask));
+        return true;
+    }
+
+    // Desfaz os bits de todas as palavras anteriores a `limit` (o grupo está ordenado).
+    private void unclaimBefore(int[] sorted, int limit) {
+        int i = 0;
+        while (i < sorted.length && sorted[i] >>> 6 < limit) {
+            int word = sorted[i] >>> 6;
+            long mask = 0;
+            for (; i < sorted.length && sorted[i] >>> 6 == word; i++) mask |= 1L << sorted[i];
+            long current;
+            do {
+                current = words.get(word);
+            } while (!words.compareAndSet(word, current, current & ~mask));
+        }
+    }
+
+    private int[] sortedCopy(int[] indices) {
+        int[] sorted = indices.clone();
+        for (int index : sorted) Objects.checkIndex(index, capacity());
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.joaobarbosa.modules.seats;
+
+import br.com.joaobarbosa.modules.orders.OccupiedSeat;
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import br.com.joaobarbosa.modules.room.Room;
+import br.com.joaobarbosa.modules.room.RoomRepository;
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import br.com.joaobarbosa.shared.exceptions.client.ConflictException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Mantém em memória um {@link SeatMap} por sala, para responder "este assento está livre?" e
+ * "quantos lugares restam?" sem varrer order_items. Os mapas são reconstruídos a partir dos
+ * pedidos não cancelados na subida da aplicação e, para salas novas ou redimensionadas, sob demanda.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+  private final RoomRepository roomRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final ConcurrentMap<UUID, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+  public SeatMap getSeatMap(Room room) {
+    SeatMap current = seatMaps.get(room.getId());
+    if (current != null && fits(current, room)) return current;
+
+    // Carrega fora do mapa concorrente para não segurar o lock do bucket durante a consulta.
+    SeatMap loaded = newSeatMap(room);
+    orderItemRepository
+        .findOccupiedSeatPositions(room.getId())
+        .forEach(position -> markOccupied(loaded, position));
+
+    if (current == null) {
+      SeatMap previous = seatMaps.putIfAbsent(room.getId(), loaded);
+      return previous != null ? previous : loaded;
+    }
+    return seatMaps.replace(room.getId(), current, loaded) ? loaded : seatMaps.get(room.getId());
+  }
+
+  /**
+   * Mapa já carregado da sala, sem ir ao banco. Fica atualizado com as dimensões da sala desde que
+   * quem a redimensiona chame {@link #getSeatMap} em seguida (ver {@code RoomService.updateRoom}).
+   */
+  public Optional<SeatMap> findSeatMap(UUID roomId) {
+    return Optional.ofNullable(seatMaps.get(roomId));
+  }
+
+  public boolean isSeatFree(Room room, int row, int col) {
+    SeatMap seatMap = getSeatMap(room);
+    return !seatMap.isOccupied(seatMap.indexOf(row, col));
+  }
+
+  public int getAvailableSeats(Room room) {
+    return room.getTotalCapacity() - getSeatMap(room).occupiedCount();
+  }
+
+  /**
+   * Reserva todos os assentos informados ou nenhum, sem lock global: a disputa acontece só nas
+   * palavras do bitmap que contêm esses assentos.
+   */
+  public SeatHold holdSeats(Room room, Collection<String> seatLabels) {
+    List<String> labels = List.copyOf(new LinkedHashSet<>(seatLabels));
+    if (labels.isEmpty()) {
+      throw new BadRequestException("Informe ao menos um assento.");
+    }
+
+    SeatMap seatMap = getSeatMap(room);
+    SeatLabelTable labelTable = SeatLabelTable.of(seatMap.rows(), seatMap.cols());
+    int[] indices = new int[labels.size()];
+    String[] canonical = new String[labels.size()];
+    SeatPosition[] positions = new SeatPosition[labels.size()];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = SeatLabels.indexOf(labels.get(i), seatMap.rows(), seatMap.cols());
+      if (indices[i] < 0) {
+        throw new BadRequestException("Assento inválido para a sala: " + labels.get(i));
+      }
+      // "a1" e "A1" viram a mesma instância interna da tabela de rótulos
+      canonical[i] = labelTable.label(indices[i]);
+      positions[i] = SeatPosition.of(indices[i] / seatMap.cols(), indices[i] % seatMap.cols());
+    }
+
+    if (!seatMap.holdAll(indices)) {
+      throw new ConflictException(
+          "Um ou mais assentos já estão ocupados: " + String.join(", ", labels),
+          "Escolha outros assentos e tente novamente.");
+    }
+    return new SeatHold(room.getId(), List.of(canonical), List.of(positions));
+  }
+
+  /**
+   * {@link SeatHold} de assentos que o mapa já marca como ocupados (pedido PENDING lido do banco),
+   * sem reservá-los de novo. Assentos fora da sala ficam de fora; {@code null} se não sobrar nenhum
+   * ou se a sala não tiver mapa.
+   */
+  public SeatHold restoreHold(UUID roomId, List<SeatPosition> positions) {
+    SeatMap seatMap = seatMaps.get(roomId);
+    if (seatMap == null) return null;
+
+    SeatLabelTable labelTable = SeatLabelTable.of(seatMap.rows(), seatMap.cols());
+    List<String> labels = new ArrayList<>(positions.size());
+    List<SeatPosition> inRoom = new ArrayList<>(positions.size());
+    for (SeatPosition position : positions) {
+      if (!contains(seatMap, position)) continue;
+      labels.add(labelTable.label(seatMap.indexOf(position.row(), position.col())));
+      inRoom.add(position);
+    }
+    return inRoom.isEmpty() ? null : new SeatHold(roomId, labels, inRoom);
+  }
+
+  /**
+   * Libera os assentos no mapa atual da sala. Se a sala foi redimensionada depois da reserva, o
+   * mapa novo tem outro layout: as posições são convertidas para ele e as que ficaram fora da sala
+   * são ignoradas.
+   */
+  public void releaseSeats(SeatHold hold) {
+    SeatMap seatMap = seatMaps.get(hold.roomId());
+    if (seatMap == null) return;
+    int[] indices =
+        hold.positions().stream()
+            .filter(position -> contains(seatMap, position))
+            .mapToInt(position -> seatMap.indexOf(position.row(), position.col()))
+            .toArray();
+    seatMap.releaseAll(indices);
+  }
+
+  public void evict(UUID roomId) {
+    seatMaps.remove(roomId);
+  }
+
+  // Depois do SeatPositionBackfill e antes de SeatHoldExpiryService.restorePendingHolds.
+  @Transactional(readOnly = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildAll() {
+    Map<UUID, SeatMap> rebuilt = new HashMap<>();
+    roomRepository.findAll().forEach(room -> rebuilt.put(room.getId(), newSeatMap(room)));
+
+    int occupied = 0;
+    try (Stream<OccupiedSeat> seats = orderItemRepository.streamOccupiedSeats()) {
+      for (OccupiedSeat seat : (Iterable<OccupiedSeat>) seats::iterator) {
+        SeatMap seatMap = rebuilt.get(seat.roomId());
+        if (seatMap != null && markOccupied(seatMap, seat.position())) occupied++;
+      }
+    }
+
+    seatMaps.clear();
+    seatMaps.putAll(rebuilt);
+    log.info("Mapas de assentos reconstruídos: {} salas, {} assentos ocupados", rebuilt.size(), occupied);
+  }
+
+  private static SeatMap newSeatMap(Room room) {
+    return new SeatMap(room.getRows(), room.getCols());
+  }
+
+  private static boolean fits(SeatMap seatMap, Room room) {
+    return seatMap.rows() == room.getRows() && seatMap.cols() == room.getCols();
+  }
+
+  private static boolean contains(SeatMap seatMap, SeatPosition position) {
+    return position.row() < seatMap.rows() && position.col() < seatMap.cols();
+  }
+
+  private static boolean markOccupied(SeatMap seatMap, SeatPosition position) {
+    if (!contains(seatMap, position)) {
+      log.warn("Assento fora da sala ignorado na reconstrução do mapa: {}", position);
+      return false;
+    }
+    return seatMap.hold(seatMap.indexOf(position.row(), position.col()));
+  }
+}
@@ -0,0 +1,63 @@
+package br.com.joaobarbosa.modules.seats;
+
+/**
+ * Posição de um assento na grade da sala, empacotada num int: linha nos 16 bits altos e coluna nos
+ * baixos, ambas a partir de 0. Não depende do tamanho da sala (ao contrário do índice do {@link
+ * SeatMap}), então é o que vai para o banco no lugar de seat_id e seat_label.
+ */
+public record SeatPosition(int packed) {
+    public static final int MAX_COORDINATE = 0x7FFF;
+
+    public SeatPosition {
+        if (packed < 0 || colOf(packed) > MAX_COORDINATE) {
+            throw new IllegalArgumentException("Posição de assento inválida: " + packed);
+        }
+    }
+
+    public static SeatPosition of(int row, int col) {
+        return new SeatPosition(pack(row, col));
+    }
+
+    /** Posição do rótulo ("A1", "aa3"), ou {@code null} se o rótulo for inválido. */
+    public static SeatPosition parse(String label) {
+        int packed = SeatLabels.positionOf(label);
+        return packed < 0 ? null : new SeatPosition(packed);
+    }
+
+    public int row() {
+        return rowOf(packed);
+    }
+
+    public int col() {
+        return colOf(packed);
+    }
+
+    /** Índice no {@link SeatMap} de uma sala com {@code cols} colunas. */
+    public int indexIn(int cols) {
+        return row() * cols + col();
+    }
+
+    public String label() {
+        return SeatLabels.labelOf(row(), col());
+    }
+
+    @Override
+    public String toString() {
+        return label();
+    }
+
+    static int pack(int row, int col) {
+        if (row < 0 || row > MAX_COORDINATE || col < 0 || col > MAX_COORDINATE) {
+            throw new IllegalArgumentException("Assento fora da grade: " + row + ", " + col);
+        }
+        return (row << 16) | col;
+    }
+
+    static int rowOf(int packed) {
+        return packed >>> 16;
+    }
+
+    static int colOf(int packed) {
+        return packed & 0xFFFF;
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.joaobarbosa.modules.seats;
+
+import br.com.joaobarbosa.modules.orders.OrderItem;
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Preenche seat_position dos itens gravados antes da coluna, a partir do seat_label. Roda na
+ * subida, antes da reconstrução dos mapas de assentos, em lotes de uma transação cada (os UPDATEs
+ * saem em batch JDBC). Sem itens pendentes, custa uma consulta vazia. Rótulos inválidos ficam sem
+ * posição, são registrados no log e não entram na ocupação.
+ */
+@Slf4j
+@Component
+public class SeatPositionBackfill {
+  private static final UUID FIRST_ID = new UUID(0, 0);
+
+  private final OrderItemRepository orderItemRepository;
+  private final TransactionTemplate transaction;
+  private final int batchSize;
+
+  public SeatPositionBackfill(
+      OrderItemRepository orderItemRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.seats.backfill.batch-size:1000}") int batchSize) {
+    this.orderItemRepository = orderItemRepository;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int migrated = 0;
+    int skipped = 0;
+    UUID after = FIRST_ID;
+    while (true) {
+      UUID from = after;
+      Batch batch = transaction.execute(status -> migrateBatch(from));
+      if (batch == null || batch.lastId() == null) break;
+      migrated += batch.migrated();
+      skipped += batch.skipped();
+      after = batch.lastId();
+    }
+    if (migrated > 0 || skipped > 0) {
+      log.info("seat_position preenchido em {} itens; {} com rótulo inválido", migrated, skipped);
+    }
+  }
+
+  private Batch migrateBatch(UUID after) {
+    List<OrderItem> items = orderItemRepository.findWithoutSeatPosition(after, batchSize);
+    int skipped = 0;
+    for (OrderItem item : items) {
+      SeatPosition position = SeatPosition.parse(item.getSeatLabel());
+      if (position == null) {
+        log.warn("Rótulo de assento inválido no item {}: {}", item.getId(), item.getSeatLabel());
+        skipped++;
+      } else {
+        item.setSeatPosition(position);
+      }
+    }
+    UUID lastId = items.isEmpty() ? null : items.get(items.size() - 1).getId();
+    return new Batch(lastId, items.size() - skipped, skipped);
+  }
+
+  private record Batch(UUID lastId, int migrated, int skipped) {}
+}
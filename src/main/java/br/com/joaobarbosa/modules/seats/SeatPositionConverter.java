@@ -0,0 +1,19 @@
+package br.com.joaobarbosa.modules.seats;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/** Grava {@link SeatPosition} como o int empacotado (coluna {@code integer}). */
+@Converter(autoApply = true)
+public class SeatPositionConverter implements AttributeConverter<SeatPosition, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(SeatPosition position) {
+        return position == null ? null : position.packed();
+    }
+
+    @Override
+    public SeatPosition convertToEntityAttribute(Integer packed) {
+        return packed == null ? null : new SeatPosition(packed);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.joaobarbosa.modules.users;
+
+import br.com.joaobarbosa.shared.utils.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalida o {@link UserPrincipalCache} a cada escrita em {@link User}, cobrindo o registro em
+ * /auth/register e qualquer troca de role, venha de onde vier. A invalidação espera o commit: no
+ * flush, uma requisição concorrente ainda leria a role antiga e a guardaria pelo TTL inteiro.
+ */
+@Component
+public class UserCacheInvalidationListener {
+    // ObjectProvider: o listener é criado junto com o EntityManagerFactory, antes dos repositórios.
+    private final ObjectProvider<UserPrincipalCache> principalCache;
+
+    public UserCacheInvalidationListener(ObjectProvider<UserPrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void invalidate(User user) {
+        String username = user.getUsername();
+        AfterCommit.run(() -> principalCache.ifAvailable(cache -> cache.invalidate(username)));
+    }
+}
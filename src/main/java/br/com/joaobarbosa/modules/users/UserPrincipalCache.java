@@ -0,0 +1,79 @@
+package br.com.joaobarbosa.modules.users;
+
+import br.com.joaobarbosa.shared.utils.ExpiringCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de principals à frente do {@link UserRepository} para a autenticação por requisição.
+ * Cada entrada vale por um TTL curto; criação, alteração (ex.: troca de role) e remoção de um
+ * usuário a invalidam via {@link UserCacheInvalidationListener}. Acertos, faltas, despejos e
+ * tamanho saem em /actuator/metrics como auth.principal.cache.*.
+ */
+@Component
+public class UserPrincipalCache {
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, UserDetails> principals;
+    private final long ttlMillis;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.principals = new ExpiringCache<>(maxSize);
+        this.ttlMillis = ttl.toMillis();
+
+        FunctionCounter.builder("auth.principal.cache.hits", principals, ExpiringCache::hits)
+                .description("Autenticações atendidas pelo cache de principals")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.principal.cache.misses", principals, ExpiringCache::misses)
+                .description("Autenticações que foram ao banco")
+                .register(meterRegistry);
+        FunctionCounter.builder(
+                        "auth.principal.cache.evictions", principals, ExpiringCache::evictions)
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", principals, ExpiringCache::size)
+                .register(meterRegistry);
+    }
+
+    /** Mesmo contrato de {@link UserRepository#findByUsername}: {@code null} se não existir. */
+    public UserDetails findByUsername(String username) {
+        UserDetails cached = principals.get(username);
+        if (cached != null) return cached;
+
+        UserDetails user = userRepository.findByUsername(username);
+        if (user != null) principals.put(username, user, System.currentTimeMillis() + ttlMillis);
+        return user;
+    }
+
+    public void invalidate(String username) {
+        principals.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        principals.invalidateAll();
+    }
+
+    public long hits() {
+        return principals.hits();
+    }
+
+    public long misses() {
+        return principals.misses();
+    }
+
+    public long evictions() {
+        return principals.evictions();
+    }
+
+    public int size() {
+        return principals.size();
+    }
+}
@@ -1,12 +1,17 @@
 package br.com.joaobarbosa.shared;
 
 import br.com.joaobarbosa.shared.exceptions.BaseHttpException;
+import br.com.joaobarbosa.shared.exceptions.server.ServiceUnavailableException;
+import br.com.joaobarbosa.shared.utils.LogRateLimiter;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.net.URI;
 import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -24,16 +29,64 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 @Slf4j
 @RestControllerAdvice
 public class GlobalControllerExceptionHandler {
+  // URIs de "type" criadas uma vez, não a cada erro
+  private static final Map<HttpStatus, URI> STATUS_TYPES = new EnumMap<>(HttpStatus.class);
+  private static final URI VALIDATION_TYPE = URI.create("about:blank#validation");
+  private static final URI CONSTRAINT_VIOLATION_TYPE =
+      URI.create("about:blank#constraint-violation");
+  private static final URI MALFORMED_JSON_TYPE = URI.create("about:blank#malformed-json");
+  private static final URI MISSING_PARAMETER_TYPE = URI.create("about:blank#missing-parameter");
+  private static final URI TYPE_MISMATCH_TYPE = URI.create("about:blank#type-mismatch");
+  private static final URI UNAUTHORIZED_TYPE = URI.create("about:blank#unauthorized");
+  private static final URI FORBIDDEN_TYPE = URI.create("about:blank#forbidden");
+  private static final URI NOT_FOUND_TYPE = URI.create("about:blank#not-found");
+  private static final URI METHOD_NOT_ALLOWED_TYPE = URI.create("about:blank#method-not-allowed");
+  private static final URI INTERNAL_TYPE = URI.create("about:blank#internal");
+
+  static {
+    for (HttpStatus status : HttpStatus.values()) {
+      STATUS_TYPES.put(
+          status,
+          URI.create(
+              "https://developer.mozilla.org/en-US/docs/Web/HTTP/Reference/Status/"
+                  + status.value()));
+    }
+  }
+
+  // Erros 4xx e 503 de sobrecarga vão como WARN sem stack trace e com limite por segundo (cada
+  // um com o seu); os demais 5xx seguem como ERROR, sem limite.
+  private final LogRateLimiter clientErrorLog;
+  private final LogRateLimiter overloadLog;
+
+  public GlobalControllerExceptionHandler(
+      @Value("${app.logging.client-errors-per-second:20}") int clientErrorsPerSecond,
+      @Value("${app.logging.overload-errors-per-second:5}") int overloadErrorsPerSecond) {
+    this.clientErrorLog = new LogRateLimiter(clientErrorsPerSecond);
+    this.overloadLog = new LogRateLimiter(overloadErrorsPerSecond);
+  }
+
+  // === Backpressure (ex.: pool de BCrypt cheio) → 503 ===
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ProblemDetail handleServiceUnavailable(ServiceUnavailableException exception) {
+    logRateLimited(overloadLog, exception.getStatus(), exception);
+    return toProblemDetail(exception);
+  }
+
   @ExceptionHandler(BaseHttpException.class)
   public ProblemDetail handleBaseHttpException(BaseHttpException exception) {
-    log.error(exception.getMessage(), exception);
+    if (exception.getStatus().is4xxClientError()) {
+      logClientError(exception.getStatus(), exception);
+    } else {
+      log.error(exception.getMessage(), exception);
+    }
+    return toProblemDetail(exception);
+  }
+
+  private static ProblemDetail toProblemDetail(BaseHttpException exception) {
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(exception.getStatus(), exception.getMessage());
     pd.setTitle(exception.getName());
-    pd.setType(
-        URI.create(
-            "https://developer.mozilla.org/en-US/docs/Web/HTTP/Reference/Status/"
-                + exception.getStatus().value()));
+    pd.setType(STATUS_TYPES.get(exception.getStatus()));
     pd.setProperty("action", exception.getAction());
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -42,7 +95,7 @@ public class GlobalControllerExceptionHandler {
   // === Validação @Valid (body) → 400 ===
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ProblemDetail handleValidation(MethodArgumentNotValidException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.BAD_REQUEST, ex);
     var errors =
         ex.getBindingResult().getFieldErrors().stream()
             .collect(
@@ -53,7 +106,7 @@ public class GlobalControllerExceptionHandler {
     ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
     pd.setTitle("BadRequestException");
     pd.setDetail("Validação falhou");
-    pd.setType(URI.create("about:blank#validation"));
+    pd.setType(VALIDATION_TYPE);
     pd.setProperty("errors", errors);
     pd.setProperty("action", "Ajuste os campos inválidos e tente novamente.");
     pd.setProperty("timestamp", OffsetDateTime.now());
@@ -63,7 +116,7 @@ public class GlobalControllerExceptionHandler {
   // === Validação @Validated em params/path (ConstraintViolation) → 400 ===
   @ExceptionHandler(ConstraintViolationException.class)
   public ProblemDetail handleConstraint(ConstraintViolationException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.BAD_REQUEST, ex);
     var errors =
         ex.getConstraintViolations().stream()
             .collect(
@@ -74,7 +127,7 @@ public class GlobalControllerExceptionHandler {
     ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
     pd.setTitle("BadRequestException");
     pd.setDetail("Constraint violation");
-    pd.setType(URI.create("about:blank#constraint-violation"));
+    pd.setType(CONSTRAINT_VIOLATION_TYPE);
     pd.setProperty("errors", errors);
     pd.setProperty("action", "Corrija os parâmetros da requisição.");
     pd.setProperty("timestamp", OffsetDateTime.now());
@@ -84,11 +137,11 @@ public class GlobalControllerExceptionHandler {
   // === JSON malformado / body ilegível → 400 ===
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ProblemDetail handleUnreadable(HttpMessageNotReadableException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.BAD_REQUEST, ex);
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "JSON enviado é inválido");
     pd.setTitle("BadRequestException");
-    pd.setType(URI.create("about:blank#malformed-json"));
+    pd.setType(MALFORMED_JSON_TYPE);
     pd.setProperty("action", "Verifique o JSON enviado.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -97,12 +150,12 @@ public class GlobalControllerExceptionHandler {
   // === Faltou query param obrigatório → 400 ===
   @ExceptionHandler(MissingServletRequestParameterException.class)
   public ProblemDetail handleMissingParam(MissingServletRequestParameterException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.BAD_REQUEST, ex);
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(
             HttpStatus.BAD_REQUEST, "Missing required parameter: " + ex.getParameterName());
     pd.setTitle("BadRequestException");
-    pd.setType(URI.create("about:blank#missing-parameter"));
+    pd.setType(MISSING_PARAMETER_TYPE);
     pd.setProperty("action", "Inclua o parâmetro solicitado.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -111,12 +164,12 @@ public class GlobalControllerExceptionHandler {
   // === Tipo de parâmetro inválido → 400 ===
   @ExceptionHandler(MethodArgumentTypeMismatchException.class)
   public ProblemDetail handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.BAD_REQUEST, ex);
     String detail =
         String.format("Parâmetro '%s' deve ser do tipo `%s`", ex.getName(), ex.getRequiredType());
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
     pd.setTitle("BadRequestException");
-    pd.setType(URI.create("about:blank#type-mismatch"));
+    pd.setType(TYPE_MISMATCH_TYPE);
     pd.setProperty("action", "Corrija o tipo do parâmetro informado.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -124,11 +177,11 @@ public class GlobalControllerExceptionHandler {
 
   @ExceptionHandler(BadCredentialsException.class)
   public ProblemDetail handleBadCredentials(BadCredentialsException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.UNAUTHORIZED, ex);
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, "Credenciais inválidas");
     pd.setTitle("UnauthorizedException");
-    pd.setType(URI.create("about:blank#unauthorized"));
+    pd.setType(UNAUTHORIZED_TYPE);
     pd.setProperty("action", "Verifique suas credenciais e tente novamente.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -137,10 +190,10 @@ public class GlobalControllerExceptionHandler {
   // === Acesso negado → 403 ===
   @ExceptionHandler(AuthorizationDeniedException.class)
   public ProblemDetail handleAuthorizationDenied(AuthorizationDeniedException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.FORBIDDEN, ex);
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, "Acesso negado");
     pd.setTitle("ForbiddenException");
-    pd.setType(URI.create("about:blank#forbidden"));
+    pd.setType(FORBIDDEN_TYPE);
     pd.setProperty("action", "Você não tem permissão para acessar este recurso.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -149,11 +202,11 @@ public class GlobalControllerExceptionHandler {
   // === Not Found → 404 ===
   @ExceptionHandler(NoResourceFoundException.class)
   public ProblemDetail handleNotFound(NoResourceFoundException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.NOT_FOUND, ex);
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "Recurso não encontrado");
     pd.setTitle("NotFoundException");
-    pd.setType(URI.create("about:blank#not-found"));
+    pd.setType(NOT_FOUND_TYPE);
     pd.setProperty("action", "Verifique a URL e tente novamente.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -162,11 +215,11 @@ public class GlobalControllerExceptionHandler {
   // === Method Not Allowed → 405 ===
   @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
   public ProblemDetail handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex) {
-    log.error(ex.getMessage(), ex);
+    logClientError(HttpStatus.METHOD_NOT_ALLOWED, ex);
     String detail = String.format("Método '%s' não é suportado para este endpoint", ex.getMethod());
     ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.METHOD_NOT_ALLOWED, detail);
     pd.setTitle("MethodNotAllowedException");
-    pd.setType(URI.create("about:blank#method-not-allowed"));
+    pd.setType(METHOD_NOT_ALLOWED_TYPE);
     pd.setProperty("action", "Verifique o método HTTP utilizado.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
@@ -179,9 +232,28 @@ public class GlobalControllerExceptionHandler {
     ProblemDetail pd =
         ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
     pd.setTitle("InternalServerErrorException");
-    pd.setType(URI.create("about:blank#internal"));
+    pd.setType(INTERNAL_TYPE);
     pd.setProperty("action", "Tente novamente mais tarde. Se persistir, contate o suporte.");
     pd.setProperty("timestamp", OffsetDateTime.now());
     return pd;
   }
+
+  private void logClientError(HttpStatus status, Exception ex) {
+    logRateLimited(clientErrorLog, status, ex);
+  }
+
+  private static void logRateLimited(LogRateLimiter limiter, HttpStatus status, Exception ex) {
+    if (!limiter.tryAcquire()) return;
+    long suppressed = limiter.drainSuppressed();
+    if (suppressed > 0) {
+      log.warn(
+          "{} {}: {} (+{} suprimidos)",
+          status.value(),
+          ex.getClass().getSimpleName(),
+          ex.getMessage(),
+          suppressed);
+    } else {
+      log.warn("{} {}: {}", status.value(), ex.getClass().getSimpleName(), ex.getMessage());
+    }
+  }
 }
@@ -17,6 +17,23 @@ public abstract class BaseHttpException extends RuntimeException {
     this.name = name;
   }
 
+  /**
+   * Sem stack trace nem supressões ({@code writableStackTrace = false}): barata de criar e segura
+   * para reutilizar como instância constante.
+   */
+  protected BaseHttpException(
+      String message,
+      HttpStatus status,
+      String action,
+      String name,
+      Throwable cause,
+      boolean writableStackTrace) {
+    super(message, cause, writableStackTrace, writableStackTrace);
+    this.status = status;
+    this.action = action;
+    this.name = name;
+  }
+
   protected BaseHttpException(String message, HttpStatus status, String action, String name) {
     super(message);
     this.status = status;
@@ -35,4 +35,13 @@ public class BadRequestException extends BaseClientException {
   public BadRequestException(String message, String action, Throwable cause) {
     super(message, HttpStatus.BAD_REQUEST, action, "BadRequestException", cause);
   }
+
+  private BadRequestException(String message, String action, boolean writableStackTrace) {
+    super(message, HttpStatus.BAD_REQUEST, action, "BadRequestException", null, writableStackTrace);
+  }
+
+  /** Sempre sem stack trace: para guardar em constante e lançar a mesma instância. */
+  public static BadRequestException stackless(String message, String action) {
+    return new BadRequestException(message, action, false);
+  }
 }
@@ -3,14 +3,34 @@ package br.com.joaobarbosa.shared.exceptions.client;
 import br.com.joaobarbosa.shared.exceptions.BaseHttpException;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Erros 4xx são fluxo normal (validação, recurso inexistente), então por padrão saem sem stack
+ * trace. Para depurar, rode com {@code -Dapp.exceptions.client-stack-traces=true}.
+ */
 public abstract class BaseClientException extends BaseHttpException {
+    static final boolean STACK_TRACES = Boolean.getBoolean("app.exceptions.client-stack-traces");
+
     protected BaseClientException(String message, HttpStatus status, String action, String name) {
-        super(message, status, action, name);
-        if (!status.is4xxClientError()) {
-            throw new IllegalArgumentException("ClientErrorException deve usar um status 4xx");
-        }
-    }  protected BaseClientException(String message, HttpStatus status, String action, String name, Throwable cause) {
-        super(message, status, action, name, cause);
+        this(message, status, action, name, null);
+    }
+
+    protected BaseClientException(
+            String message, HttpStatus status, String action, String name, Throwable cause) {
+        this(message, status, action, name, cause, STACK_TRACES);
+    }
+
+    /**
+     * Com {@code writableStackTrace = false} a exceção nunca tem stack trace, nem com a flag de
+     * depuração ligada: é o construtor das instâncias constantes, compartilhadas entre requisições.
+     */
+    protected BaseClientException(
+            String message,
+            HttpStatus status,
+            String action,
+            String name,
+            Throwable cause,
+            boolean writableStackTrace) {
+        super(message, status, action, name, cause, writableStackTrace);
         if (!status.is4xxClientError()) {
             throw new IllegalArgumentException("ClientErrorException deve usar um status 4xx");
         }
@@ -0,0 +1,47 @@
+package br.com.joaobarbosa.shared.exceptions.client;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends BaseClientException {
+  public ConflictException() {
+    super(
+        "A requisição conflita com o estado atual do recurso.",
+        HttpStatus.CONFLICT,
+        "Atualize os dados e tente novamente.",
+        "ConflictException");
+  }
+
+  public ConflictException(String message) {
+    super(
+        message,
+        HttpStatus.CONFLICT,
+        "Atualize os dados e tente novamente.",
+        "ConflictException");
+  }
+
+  public ConflictException(String message, String action) {
+    super(message, HttpStatus.CONFLICT, action, "ConflictException");
+  }
+
+  public ConflictException(String message, Throwable cause) {
+    super(
+        message,
+        HttpStatus.CONFLICT,
+        "Atualize os dados e tente novamente.",
+        "ConflictException",
+        cause);
+  }
+
+  public ConflictException(String message, String action, Throwable cause) {
+    super(message, HttpStatus.CONFLICT, action, "ConflictException", cause);
+  }
+
+  private ConflictException(String message, String action, boolean writableStackTrace) {
+    super(message, HttpStatus.CONFLICT, action, "ConflictException", null, writableStackTrace);
+  }
+
+  /** Sempre sem stack trace: para guardar em constante e lançar a mesma instância. */
+  public static ConflictException stackless(String message, String action) {
+    return new ConflictException(message, action, false);
+  }
+}
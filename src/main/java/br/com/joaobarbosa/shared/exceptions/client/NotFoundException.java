@@ -35,4 +35,19 @@ public class NotFoundException extends BaseClientException {
   public NotFoundException(String message, String action, Throwable cause) {
     super(message, HttpStatus.NOT_FOUND, action, BadRequestException.class.getSimpleName(), cause);
   }
+
+  private NotFoundException(String message, String action, boolean writableStackTrace) {
+    super(
+        message,
+        HttpStatus.NOT_FOUND,
+        action,
+        BadRequestException.class.getSimpleName(),
+        null,
+        writableStackTrace);
+  }
+
+  /** Sempre sem stack trace: para guardar em constante e lançar a mesma instância. */
+  public static NotFoundException stackless(String message, String action) {
+    return new NotFoundException(message, action, false);
+  }
 }
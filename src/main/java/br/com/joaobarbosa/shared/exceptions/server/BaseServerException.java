@@ -11,6 +11,20 @@ public abstract class BaseServerException extends BaseHttpException {
         }
     }
 
+    /** Sem stack trace, para falhas esperadas sob carga (ex.: 503 de backpressure). */
+    protected BaseServerException(
+            String message,
+            HttpStatus status,
+            String action,
+            String name,
+            Throwable cause,
+            boolean writableStackTrace) {
+        super(message, status, action, name, cause, writableStackTrace);
+        if (!status.is5xxServerError()) {
+            throw new IllegalArgumentException("ServerErrorException deve usar um status 5xx");
+        }
+    }
+
     protected BaseServerException(String message, HttpStatus status, String action, String name) {
         super(message, status, action, name);
         if (!status.is5xxServerError()) {
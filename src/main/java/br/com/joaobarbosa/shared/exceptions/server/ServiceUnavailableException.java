@@ -0,0 +1,37 @@
+package br.com.joaobarbosa.shared.exceptions.server;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 503 de backpressure: é a resposta rápida que protege o servidor numa rajada, então sai sem stack
+ * trace para não devolver ao log o custo que a recusa economizou.
+ */
+public final class ServiceUnavailableException extends BaseServerException {
+  private static final String DEFAULT_ACTION = "Aguarde alguns instantes e tente novamente.";
+
+  public ServiceUnavailableException() {
+    this("O servidor está sobrecarregado no momento.");
+  }
+
+  public ServiceUnavailableException(String message) {
+    this(message, DEFAULT_ACTION, null);
+  }
+
+  public ServiceUnavailableException(String message, Throwable cause) {
+    this(message, DEFAULT_ACTION, cause);
+  }
+
+  public ServiceUnavailableException(String message, String action) {
+    this(message, action, null);
+  }
+
+  public ServiceUnavailableException(String message, String action, Throwable cause) {
+    super(
+        message,
+        HttpStatus.SERVICE_UNAVAILABLE,
+        action,
+        ServiceUnavailableException.class.getSimpleName(),
+        cause,
+        false);
+  }
+}
@@ -0,0 +1,37 @@
+package br.com.joaobarbosa.shared.pagination;
+
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma listagem ordenada por {@code (created_at, id)}: a próxima página começa logo
+ * depois deste par. Vai para o cliente como um token opaco (base64url).
+ */
+public record Cursor(Instant createdAt, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(
+                    "Cursor de paginação inválido.",
+                    "Use o valor de nextCursor retornado pela página anterior.",
+                    e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.joaobarbosa.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** Uma página de uma listagem por cursor; {@code nextCursor} é nulo na última página. */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta feita com {@code size + 1} linhas: a linha extra só
+     * indica que existe uma próxima página.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) return new CursorPage<>(rows, null);
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)).encode());
+    }
+}
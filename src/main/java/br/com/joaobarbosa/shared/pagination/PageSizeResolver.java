@@ -0,0 +1,23 @@
+package br.com.joaobarbosa.shared.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Aplica o tamanho de página padrão e o máximo configurados às listagens por cursor. */
+@Component
+public class PageSizeResolver {
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageSizeResolver(
+            @Value("${app.pagination.default-size:20}") int defaultSize,
+            @Value("${app.pagination.max-size:100}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null || requested < 1) return Math.min(defaultSize, maxSize);
+        return Math.min(requested, maxSize);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.joaobarbosa.shared.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adia efeitos em memória (caches, índices) para depois do commit da transação corrente.
+ * Callbacks de entidade como {@code @PostUpdate} rodam no flush, antes do commit: mexer no cache
+ * ali deixa uma janela em que outra requisição relê o valor antigo, e um rollback deixaria o cache
+ * com um estado que nunca existiu no banco. Sem transação ativa, executa na hora.
+ */
+public final class AfterCommit {
+    private AfterCommit() {}
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+}
@@ -1,10 +1,112 @@
 package br.com.joaobarbosa.shared.utils;
 
-import java.util.UUID;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+/**
+ * Códigos aleatórios (cupons) no alfabeto Crockford base32: dígitos e maiúsculas sem I, L, O e U,
+ * que se confundem ao digitar. Os bytes vêm de um SecureRandom com buffer por faixa, e cada
+ * thread cai numa faixa qualquer: sem um lock global como o do UUID.randomUUID(), e sem criar um
+ * SecureRandom por virtual thread como um ThreadLocal faria. O código é escrito direto num
+ * {@code char[]}.
+ */
 public class CodeGenerator {
+    static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /** Até este tamanho os códigos em lote saem da permutação de Feistel (5 bits por caractere). */
+    public static final int MAX_PERMUTED_LENGTH = FeistelPermutation.MAX_BITS / 5;
+
+    private static final RandomBytes[] STRIPES = newStripes();
+
     public static String generateCode(int length) {
-        String uuid = UUID.randomUUID().toString().replace("-", "").toUpperCase();
-        return uuid.substring(0, Math.min(length, uuid.length()));
+        if (length <= 0) throw new IllegalArgumentException("length deve ser > 0");
+        char[] code = new char[length];
+        stripe().fill(code);
+        return new String(code);
+    }
+
+    /**
+     * {@code count} códigos distintos de {@code length} caracteres, para campanhas grandes. Até
+     * {@link #MAX_PERMUTED_LENGTH} caracteres cada código é o índice 0..count-1 passado por uma
+     * permutação de Feistel com chave aleatória: únicos por construção, sem guardar nada em
+     * memória. Acima disso, códigos aleatórios filtrados por um conjunto dos já emitidos, que
+     * cresce até {@code count}: só para lotes pequenos. O stream é sequencial e deve ser consumido
+     * por uma única thread.
+     */
+    public static Stream<String> generateUniqueCodes(long count, int length) {
+        if (length <= 0) throw new IllegalArgumentException("length deve ser > 0");
+        if (count < 0) throw new IllegalArgumentException("count deve ser >= 0");
+
+        if (length > MAX_PERMUTED_LENGTH) {
+            Set<String> emitted = new HashSet<>();
+            return Stream.generate(() -> generateCode(length)).filter(emitted::add).limit(count);
+        }
+
+        byte[] key = new byte[16];
+        stripe().nextBytes(key);
+        FeistelPermutation permutation = new FeistelPermutation(5 * length, key);
+        if (count > permutation.domain()) {
+            throw new IllegalArgumentException(
+                    "Não existem %d códigos distintos de %d caracteres".formatted(count, length));
+        }
+        return LongStream.range(0, count).mapToObj(i -> encode(permutation.permute(i), length));
+    }
+
+    /** Os {@code length} grupos de 5 bits de {@code value}, do mais significativo ao menos. */
+    static String encode(long value, int length) {
+        char[] code = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private static RandomBytes stripe() {
+        return STRIPES[ThreadLocalRandom.current().nextInt() & (STRIPES.length - 1)];
+    }
+
+    private static RandomBytes[] newStripes() {
+        int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1;
+        RandomBytes[] random = new RandomBytes[stripes];
+        for (int i = 0; i < stripes; i++) random[i] = new RandomBytes();
+        return random;
+    }
+
+    private static final class RandomBytes {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] buffer = new byte[256];
+        private int position = buffer.length;
+
+        void fill(char[] code) {
+            lock.lock();
+            try {
+                for (int i = 0; i < code.length; i++) {
+                    if (position == buffer.length) {
+                        random.nextBytes(buffer);
+                        position = 0;
+                    }
+                    // 256 é múltiplo de 32: os 5 bits baixos de um byte uniforme não têm viés
+                    code[i] = ALPHABET[buffer[position++] & 0x1F];
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void nextBytes(byte[] bytes) {
+            lock.lock();
+            try {
+                random.nextBytes(bytes);
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 }
@@ -0,0 +1,100 @@
+package br.com.joaobarbosa.shared.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache em memória limitado por tamanho em que cada entrada tem seu próprio instante de expiração
+ * (em millis de relógio de parede, como o {@code exp} de um JWT). Leituras são um get no
+ * ConcurrentHashMap; ao encher, primeiro saem as entradas vencidas e, se ainda faltar espaço, um
+ * lote arbitrário de entradas (aproximação barata de LRU para caches de alta taxa de acerto).
+ */
+public final class ExpiringCache<K, V> {
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    ExpiringCache(int maxSize, LongSupplier clock) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize deve ser > 0");
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /** Valor ainda válido para a chave, ou {@code null}. */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.getAsLong()) {
+            if (entries.remove(key, entry)) evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.getAsLong()) return;
+        if (entries.size() >= maxSize && !entries.containsKey(key)) makeRoom();
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private void makeRoom() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAtMillis() <= now) {
+                it.remove();
+                removed++;
+            }
+        }
+        // Nada (ou pouco) vencido: libera ~1/8 do cache de uma vez para não varrer a cada put.
+        int toRemove = entries.size() < maxSize ? 0 : entries.size() - maxSize + Math.max(1, maxSize / 8);
+        for (Iterator<K> it = entries.keySet().iterator(); toRemove > 0 && it.hasNext(); toRemove--) {
+            it.next();
+            it.remove();
+            removed++;
+        }
+        evictions.add(removed);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.joaobarbosa.shared.utils;
+
+import java.security.GeneralSecurityException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Permutação pseudoaleatória de {@code [0, 2^bits)}: cada índice vira um valor distinto, e sem a
+ * chave não dá para prever os vizinhos. Rede de Feistel de 4 rodadas com AES como função de
+ * rodada; quando {@code bits} é ímpar, a rede trabalha com um bit a mais e os valores fora do
+ * domínio são cifrados de novo (cycle-walking), o que mantém a bijeção. Não é thread-safe.
+ */
+final class FeistelPermutation {
+    static final int MAX_BITS = 62;
+    private static final int ROUNDS = 4;
+
+    private final long domain;
+    private final int halfBits;
+    private final long halfMask;
+    private final Cipher aes;
+    private final byte[] block = new byte[16];
+    private final byte[] out = new byte[16];
+
+    FeistelPermutation(int bits, byte[] key) {
+        if (bits < 2 || bits > MAX_BITS) {
+            throw new IllegalArgumentException("bits deve estar entre 2 e " + MAX_BITS);
+        }
+        this.domain = 1L << bits;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        try {
+            this.aes = Cipher.getInstance("AES/ECB/NoPadding");
+            aes.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES indisponível", e);
+        }
+    }
+
+    long domain() {
+        return domain;
+    }
+
+    long permute(long index) {
+        if (index < 0 || index >= domain) {
+            throw new IllegalArgumentException("Índice fora do domínio: " + index);
+        }
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= domain);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (roundFunction(round, right) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long roundFunction(int round, long half) {
+        block[0] = (byte) round;
+        for (int i = 0; i < 8; i++) block[15 - i] = (byte) (half >>> (8 * i));
+        try {
+            aes.doFinal(block, 0, 16, out, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Falha ao cifrar rodada da permutação", e);
+        }
+        long result = 0;
+        for (int i = 0; i < 8; i++) result = (result << 8) | (out[i] & 0xFF);
+        return result;
+    }
+}
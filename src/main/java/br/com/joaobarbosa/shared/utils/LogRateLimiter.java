@@ -0,0 +1,52 @@
+package br.com.joaobarbosa.shared.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita quantas linhas de log de um tipo são escritas por segundo. O que passa do limite só é
+ * contado e devolvido por {@link #drainSuppressed()} na próxima linha liberada. Acima do limite o
+ * custo é uma leitura e um incremento em LongAdder, sem disputa entre threads.
+ */
+public final class LogRateLimiter {
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    LogRateLimiter(int permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond deve ser > 0");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.nanoClock = nanoClock;
+    }
+
+    /** {@code true} se a linha pode ser escrita; caso contrário ela é contada como suprimida. */
+    public boolean tryAcquire() {
+        long current = nanoClock.getAsLong() / SECOND_NANOS;
+        long previous = window.get();
+        // quem vira a janela zera o contador; corridas na virada só liberam algumas linhas a mais
+        if (current != previous && window.compareAndSet(previous, current)) used.set(0);
+
+        if (used.get() < permitsPerSecond && used.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /** Linhas suprimidas desde a última chamada. */
+    public long drainSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
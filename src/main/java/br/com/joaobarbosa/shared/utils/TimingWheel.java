@@ -0,0 +1,119 @@
+package br.com.joaobarbosa.shared.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Roda de tempo com hash (hashed timing wheel) para milhares de prazos curtos, como reservas que
+ * expiram. Agendar é O(1) e lock-free (qualquer thread); {@link #advance} é chamado por uma única
+ * thread e custa, por tick, apenas os itens que caem naquele slot.
+ *
+ * <p>Com a roda dimensionada para cobrir o maior prazo usado ({@code horizon}), nenhum item dá mais
+ * de uma volta e cada item é visitado uma única vez, quando vence. Prazos maiores continuam
+ * funcionando, só que revisitados a cada volta.
+ */
+public final class TimingWheel<T> {
+
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        /** Impede a expiração; o item sai da roda na próxima passagem pelo seu slot. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickNanos;
+    private final List<Timeout<T>>[] slots;
+    private final int mask;
+    private final LongSupplier clock;
+    private final long startNanos;
+
+    // Agendamentos ainda não distribuídos nos slots (a roda em si só é tocada por advance).
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    public TimingWheel(Duration tick, Duration horizon) {
+        this(tick, horizon, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(Duration tick, Duration horizon, LongSupplier clock) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick deve ser positivo");
+        }
+        this.tickNanos = tick.toNanos();
+        long ticks = Math.max(2, ceilDiv(horizon.toNanos(), tickNanos) + 1);
+        if (ticks > 1 << 20) throw new IllegalArgumentException("horizon grande demais para o tick");
+        int size = Integer.highestOneBit((int) ticks - 1) << 1;
+        this.slots = new List[size];
+        for (int i = 0; i < size; i++) slots[i] = new ArrayList<>();
+        this.mask = size - 1;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    public Timeout<T> schedule(T payload, Duration delay) {
+        long elapsed = clock.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        Timeout<T> timeout = new Timeout<>(payload, ceilDiv(elapsed, tickNanos));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /** Processa todos os ticks vencidos até agora, entregando os itens expirados a {@code expired}. */
+    public void advance(Consumer<T> expired) {
+        long targetTick = (clock.getAsLong() - startNanos) / tickNanos;
+        transferPending();
+        while (currentTick <= targetTick) {
+            expireSlot(slots[(int) (currentTick & mask)], expired);
+            currentTick++;
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private void transferPending() {
+        for (Timeout<T> timeout; (timeout = pending.poll()) != null; ) {
+            if (timeout.cancelled) continue;
+            // Vencidos antes do tick atual vão para o slot corrente e saem nesta passagem.
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            slots[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    private void expireSlot(List<Timeout<T>> slot, Consumer<T> expired) {
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Timeout<T> timeout = slot.get(i);
+            if (timeout.cancelled) continue;
+            if (timeout.deadlineTick <= currentTick) {
+                expired.accept(timeout.payload);
+            } else {
+                slot.set(kept++, timeout);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.joaobarbosa.shared.value_objects;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metadados de exibição e escala de uma moeda, calculados uma única vez por código ISO e
+ * compartilhados por todos os {@link Money} daquela moeda. As instâncias são imutáveis e
+ * thread-safe, e o registro garante uma instância por moeda (pode-se comparar por referência).
+ */
+public final class CurrencyMetadata {
+    private static final String PATTERN = "¤ #,##0.00";
+    private static final int DISPLAY_DIGITS = 2;
+    private static final int GROUP_SIZE = 3;
+    private static final ConcurrentMap<String, CurrencyMetadata> REGISTRY =
+            new ConcurrentHashMap<>();
+
+    private final Currency currency;
+    private final String code;
+    private final int fractionDigits;
+    private final Locale locale;
+    private final String symbol;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final char minusSign;
+
+    // DecimalFormat não é thread-safe: mantemos um protótipo e clonamos só no caminho decimal.
+    private final DecimalFormat prototype;
+
+    private CurrencyMetadata(Currency currency) {
+        this.currency = currency;
+        this.code = currency.getCurrencyCode();
+        this.fractionDigits = Math.max(currency.getDefaultFractionDigits(), 0);
+        this.locale = guessLocale(currency);
+        this.symbol = currency.getSymbol(locale);
+
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+        symbols.setCurrencySymbol(symbol);
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getMonetaryDecimalSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.prototype = new DecimalFormat(PATTERN, symbols);
+    }
+
+    public static CurrencyMetadata of(Currency currency) {
+        Objects.requireNonNull(currency, "currency");
+        CurrencyMetadata metadata = REGISTRY.get(currency.getCurrencyCode());
+        if (metadata != null) return metadata;
+        return REGISTRY.computeIfAbsent(currency.getCurrencyCode(), c -> new CurrencyMetadata(currency));
+    }
+
+    public static CurrencyMetadata of(String currencyCode) {
+        Objects.requireNonNull(currencyCode, "currencyCode");
+        CurrencyMetadata metadata = REGISTRY.get(currencyCode);
+        if (metadata != null) return metadata;
+        return of(Currency.getInstance(currencyCode));
+    }
+
+    private static Locale guessLocale(Currency currency) {
+        return switch (currency.getCurrencyCode()) {
+            case "USD" -> Locale.US;
+            case "EUR" -> Locale.GERMANY;
+            case "BRL" -> Locale.of("pt", "BR");
+            default -> Locale.getDefault();
+        };
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public int fractionDigits() {
+        return fractionDigits;
+    }
+
+    public Locale locale() {
+        return locale;
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    // ====== Formatação ======
+
+    /**
+     * Escreve {@code minorUnits} no formato "¤ #,##0.00" diretamente em {@code out}, sem alocar
+     * (mesma saída do {@link DecimalFormat}). Escalas acima de 2 casas usam o caminho decimal.
+     */
+    void formatMinor(long minorUnits, Appendable out) throws IOException {
+        long hundredths = toHundredths(minorUnits);
+        if (hundredths == Money.NOT_EXACT) {
+            formatDecimal(BigDecimal.valueOf(minorUnits, fractionDigits), out);
+            return;
+        }
+        if (hundredths < 0) out.append(minusSign);
+        out.append(symbol).append(' ');
+
+        long abs = Math.abs(hundredths);
+        appendGrouped(abs / 100, out);
+        out.append(decimalSeparator);
+        int cents = (int) (abs % 100);
+        out.append((char) ('0' + cents / 10)).append((char) ('0' + cents % 10));
+    }
+
+    /** Caminho geral (mais casas que a moeda ou valores fora do long). */
+    void formatDecimal(BigDecimal amount, Appendable out) throws IOException {
+        out.append(((DecimalFormat) prototype.clone()).format(amount));
+    }
+
+    private long toHundredths(long minorUnits) {
+        if (fractionDigits > DISPLAY_DIGITS || minorUnits == Long.MIN_VALUE) return Money.NOT_EXACT;
+        long hundredths = minorUnits;
+        for (int i = fractionDigits; i < DISPLAY_DIGITS; i++) {
+            if (Math.abs(hundredths) > Long.MAX_VALUE / 10) return Money.NOT_EXACT;
+            hundredths *= 10;
+        }
+        return hundredths;
+    }
+
+    private void appendGrouped(long value, Appendable out) throws IOException {
+        long divisor = 1;
+        int digits = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (; divisor > 0; divisor /= 10, digits--) {
+            out.append((char) ('0' + (value / divisor) % 10));
+            if (digits > 1 && (digits - 1) % GROUP_SIZE == 0) out.append(groupingSeparator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
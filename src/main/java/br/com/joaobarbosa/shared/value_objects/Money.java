@@ -1,54 +1,118 @@
 package br.com.joaobarbosa.shared.value_objects;
 
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
 import java.util.Currency;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
 @Embeddable
-@Getter
-@EqualsAndHashCode
+@Access(AccessType.FIELD)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // exigência do JPA
-@AllArgsConstructor(access = AccessLevel.PRIVATE) // usamos factories estáticas
 public class Money implements Comparable<Money>, Serializable {
 
     // ====== Config ======
     public static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
     public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
     public static final MathContext DEFAULT_MATH_CONTEXT = MathContext.DECIMAL64;
-    public static final Money ZERO = Money.ofMajor(BigDecimal.ZERO, DEFAULT_CURRENCY);
-    @Serial private static final long serialVersionUID = 1L;
+    public static final Money ZERO = Money.ofMinor(0, DEFAULT_CURRENCY);
+    @Serial private static final long serialVersionUID = 3L;
+
+    // Limites do caminho compacto (long): 18 dígitos cabem com folga em um long, e produtos
+    // abaixo de 10^16 são exatos em DECIMAL64, então o resultado é idêntico ao do BigDecimal.
+    private static final int MAX_COMPACT_DIGITS = 18;
+    // 10^MAX_COMPACT_DIGITS como constante: ZERO usa ofMinor antes do POW10 ser preenchido.
+    private static final long COMPACT_MINOR_LIMIT = 1_000_000_000_000_000_000L;
+    private static final int MAX_FAST_FACTOR_SCALE = 9;
+    private static final long MAX_EXACT_PRODUCT = 10_000_000_000_000_000L;
+    private static final long[] POW10 = new long[MAX_COMPACT_DIGITS + 1];
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal[] WHOLE_PERCENTS = new BigDecimal[101];
+    // Resultado sentinela dos helpers do caminho compacto (nenhum produto exato chega nele).
+    static final long NOT_EXACT = Long.MIN_VALUE;
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+        for (int i = 0; i < WHOLE_PERCENTS.length; i++) WHOLE_PERCENTS[i] = BigDecimal.valueOf(i);
+    }
+
+    // ====== Estado ======
+    // Caminho rápido: quando o valor cabe na escala oficial da moeda, guardamos as unidades
+    // menores (centavos) em um long e as operações comuns não alocam BigDecimal.
+    @Transient long minor;
+    @Transient boolean compact;
+
+    // Valor decimal (sempre sem zeros à direita). Em valores compactos é só um cache preenchido
+    // sob demanda; nos demais (mais casas que a moeda ou overflow) é a representação principal.
+    @Transient BigDecimal amount;
+
+    // Escala, locale e formatação da moeda, resolvidos uma vez no registro (uma instância por código).
+    // Não é serializável: na serialização vai só o código, resolvido de novo no registro.
+    @Transient transient CurrencyMetadata metadata;
+
+    private Money(long minorUnits, CurrencyMetadata metadata) {
+        this.minor = minorUnits;
+        this.compact = true;
+        this.metadata = metadata;
+    }
+
+    private Money(BigDecimal amount, CurrencyMetadata metadata) {
+        this.amount = amount;
+        this.metadata = metadata;
+    }
 
     // ====== Estado persistido ======
     // Guardamos com até 6 casas para evitar perdas em cálculos; na exibição normalizamos.
+    @Access(AccessType.PROPERTY)
     @Column(name = "money_value", precision = 19, scale = 6, nullable = false)
-    BigDecimal amount;
+    public BigDecimal getAmount() {
+        BigDecimal value = amount;
+        if (value == null) {
+            value = BigDecimal.valueOf(minor, metadata.fractionDigits()).stripTrailingZeros();
+            amount = value;
+        }
+        return value;
+    }
+
+    protected void setAmount(BigDecimal amount) {
+        this.amount = amount;
+        this.compact = false;
+        normalize();
+    }
 
+    @Access(AccessType.PROPERTY)
     @Column(name = "money_currency_code", nullable = false, length = 3)
-    String currencyCode;
+    public String getCurrencyCode() {
+        return metadata == null ? null : metadata.code();
+    }
+
+    protected void setCurrencyCode(String currencyCode) {
+        this.metadata = currencyCode == null ? null : CurrencyMetadata.of(currencyCode);
+        normalize();
+    }
 
     // ====== Factories ======
     public static Money ofMajor(BigDecimal majorUnits, Currency currency) {
         Objects.requireNonNull(majorUnits, "majorUnits");
         Objects.requireNonNull(currency, "currency");
-        return new Money(majorUnits.stripTrailingZeros(), currency.getCurrencyCode());
+        return fromDecimal(majorUnits, CurrencyMetadata.of(currency));
     }
 
     public static Money ofMajor(BigDecimal majorUnits) {
@@ -58,9 +122,12 @@ public class Money implements Comparable<Money>, Serializable {
     /** Cria a partir de "unidades menores" (centavos). */
     public static Money ofMinor(long minorUnits, Currency currency) {
         Objects.requireNonNull(currency, "currency");
-        int scale = Math.max(currency.getDefaultFractionDigits(), 0);
-        BigDecimal major = BigDecimal.valueOf(minorUnits, scale);
-        return ofMajor(major, currency);
+        CurrencyMetadata metadata = CurrencyMetadata.of(currency);
+        if (minorUnits > -COMPACT_MINOR_LIMIT && minorUnits < COMPACT_MINOR_LIMIT) {
+            return new Money(minorUnits, metadata);
+        }
+        // 19 dígitos: fora do caminho compacto, como o mesmo valor vindo de ofMajor
+        return fromDecimal(BigDecimal.valueOf(minorUnits, metadata.fractionDigits()), metadata);
     }
 
     public static Money ofMinor(long minorUnits) {
@@ -69,7 +136,7 @@ public class Money implements Comparable<Money>, Serializable {
 
     /** atalhos seguros */
     public static Money of(int value, Currency currency) {
-        return ofMajor(BigDecimal.valueOf(value), currency);
+        return of((long) value, currency);
     }
 
     public static Money of(int value) {
@@ -77,6 +144,12 @@ public class Money implements Comparable<Money>, Serializable {
     }
 
     public static Money of(long value, Currency currency) {
+        CurrencyMetadata metadata = CurrencyMetadata.of(currency);
+        int digits = metadata.fractionDigits();
+        long limit = POW10[MAX_COMPACT_DIGITS - digits];
+        if (value > -limit && value < limit) {
+            return new Money(value * POW10[digits], metadata);
+        }
         return ofMajor(BigDecimal.valueOf(value), currency);
     }
 
@@ -93,89 +166,111 @@ public class Money implements Comparable<Money>, Serializable {
     }
 
     public static Money zero(Currency currency) {
-        return ofMajor(BigDecimal.ZERO, currency);
+        return ofMinor(0, currency);
     }
 
     private static void validatePercent(BigDecimal percent) {
         if (percent == null
                 || percent.compareTo(BigDecimal.ZERO) < 0
-                || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+                || percent.compareTo(HUNDRED) > 0) {
             throw new IllegalArgumentException("percent deve estar no intervalo [0, 100]");
         }
     }
 
-    private static Locale guessLocale(Currency currency) {
-        return switch (currency.getCurrencyCode()) {
-            case "USD" -> Locale.US;
-            case "EUR" -> Locale.GERMANY;
-            case "BRL" -> Locale.of("pt", "BR");
-            default -> Locale.getDefault();
-        };
-    }
-
     // ====== Acesso derivado ======
     public Currency currency() {
-        return Currency.getInstance(currencyCode);
+        return metadata.currency();
     }
 
     /** Valor com a escala “oficial” da moeda (para exibição e gravação final). */
     public BigDecimal toOfficialScale() {
-        int scale = Math.max(currency().getDefaultFractionDigits(), 0);
+        int scale = metadata.fractionDigits();
+        if (compact) return BigDecimal.valueOf(minor, scale);
         return amount.setScale(scale, DEFAULT_ROUNDING);
     }
 
     public long toMinorUnits() {
-        int scale = Math.max(currency().getDefaultFractionDigits(), 0);
+        if (compact) return minor;
+        int scale = metadata.fractionDigits();
         BigDecimal scaled = amount.setScale(scale, DEFAULT_ROUNDING);
         return scaled.movePointRight(scale).longValueExact();
     }
 
+    /** Se o valor já está na escala oficial da moeda (somas e subtrações são exatas). */
+    public boolean hasOfficialScale() {
+        return compact || amount.scale() <= metadata.fractionDigits();
+    }
+
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return signum() == 0;
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return signum() > 0;
     }
 
     public boolean isNegative() {
-        return amount.compareTo(BigDecimal.ZERO) < 0;
+        return signum() < 0;
     }
 
     // ====== Operações ======
     public Money plus(Money other) {
         ensureSameCurrency(other);
-        return new Money(this.amount.add(other.amount, DEFAULT_MATH_CONTEXT), this.currencyCode)
-                .withOfficialScale();
+        if (this.compact && other.compact) {
+            long sum = this.minor + other.minor;
+            // overflow só acontece quando o resultado troca o sinal de ambos os operandos
+            if (((this.minor ^ sum) & (other.minor ^ sum)) >= 0) {
+                return new Money(sum, this.metadata);
+            }
+        }
+        return rounded(this.getAmount().add(other.getAmount(), DEFAULT_MATH_CONTEXT));
     }
 
     public Money minus(Money other) {
         ensureSameCurrency(other);
-        return new Money(
-                        this.amount.subtract(other.amount, DEFAULT_MATH_CONTEXT), this.currencyCode)
-                .withOfficialScale();
+        if (this.compact && other.compact) {
+            long diff = this.minor - other.minor;
+            if (((this.minor ^ other.minor) & (this.minor ^ diff)) >= 0) {
+                return new Money(diff, this.metadata);
+            }
+        }
+        return rounded(this.getAmount().subtract(other.getAmount(), DEFAULT_MATH_CONTEXT));
     }
 
     public Money times(BigDecimal factor) {
         Objects.requireNonNull(factor, "factor");
-        return new Money(this.amount.multiply(factor, DEFAULT_MATH_CONTEXT), this.currencyCode)
-                .withOfficialScale();
+        int scale = factor.scale();
+        if (compact
+                && scale <= MAX_FAST_FACTOR_SCALE
+                && factor.precision() - Math.min(scale, 0) <= MAX_COMPACT_DIGITS) {
+            long unscaled =
+                    scale <= 0 ? factor.longValue() : factor.unscaledValue().longValue();
+            Money result = timesScaled(unscaled, Math.max(scale, 0));
+            if (result != null) return result;
+        }
+        return rounded(this.getAmount().multiply(factor, DEFAULT_MATH_CONTEXT));
     }
 
     public Money times(double factor) {
+        if (compact) {
+            // fatores com até 2 casas (0.5 da meia-entrada, 2, 1.25...) não precisam de BigDecimal
+            long hundredths = exactHundredths(factor);
+            if (hundredths != NOT_EXACT) {
+                Money result = timesScaled(hundredths, 2);
+                if (result != null) return result;
+            }
+        }
         return times(new BigDecimal(Double.toString(factor), DEFAULT_MATH_CONTEXT));
     }
 
     public Money divide(BigDecimal divisor) {
         Objects.requireNonNull(divisor, "divisor");
-        return new Money(this.amount.divide(divisor, DEFAULT_MATH_CONTEXT), this.currencyCode)
-                .withOfficialScale();
+        return rounded(this.getAmount().divide(divisor, DEFAULT_MATH_CONTEXT));
     }
 
     public Money divide(BigDecimal divisor, int scale, RoundingMode rounding) {
         Objects.requireNonNull(divisor, "divisor");
-        return new Money(this.amount.divide(divisor, scale, rounding), this.currencyCode)
-                .withOfficialScale();
+        return rounded(this.getAmount().divide(divisor, scale, rounding));
     }
 
     public Money abs() {
@@ -183,57 +278,70 @@ public class Money implements Comparable<Money>, Serializable {
     }
 
     public Money negate() {
-        return new Money(this.amount.negate(), this.currencyCode);
+        if (compact && minor != Long.MIN_VALUE) return new Money(-minor, this.metadata);
+        return fromDecimal(this.getAmount().negate(), this.metadata);
     }
 
     public Money minZero() {
-        return isNegative() ? zero(currency()) : this;
+        return isNegative() ? new Money(0, metadata) : this;
     }
 
     public Money maxZero() {
-        return isPositive() ? this : zero(currency());
+        return isPositive() ? this : new Money(0, metadata);
     }
 
     public boolean isLessThan(Money other) {
-        ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return compareTo(other) < 0;
     }
 
     public boolean isLessThan(BigDecimal other) {
         Objects.requireNonNull(other, "other");
-        return this.amount.compareTo(other) < 0;
+        return this.getAmount().compareTo(other) < 0;
     }
 
     public boolean isLessThan(double other) {
-        return this.amount.compareTo(BigDecimal.valueOf(other)) < 0;
+        return this.getAmount().compareTo(BigDecimal.valueOf(other)) < 0;
     }
 
     public boolean isGreaterThan(Money other) {
-        ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     public boolean isGreaterThan(BigDecimal other) {
         Objects.requireNonNull(other, "other");
-        return this.amount.compareTo(other) > 0;
+        return this.getAmount().compareTo(other) > 0;
     }
 
     public boolean isGreaterThan(double other) {
-        return this.amount.compareTo(BigDecimal.valueOf(other)) > 0;
+        return this.getAmount().compareTo(BigDecimal.valueOf(other)) > 0;
     }
 
     /** p% deste valor (ex.: p=15 -> 15% de amount). */
     public Money percentageOf(BigDecimal percent) {
         validatePercent(percent);
-        return times(percent).divide(BigDecimal.valueOf(100));
+        if (compact) {
+            // percentuais inteiros arredondam uma única vez, igual ao caminho decimal
+            int whole = percent.intValue();
+            if (percent.compareTo(WHOLE_PERCENTS[whole]) == 0) {
+                Money result = timesScaled(whole, 2);
+                if (result != null) return result;
+            }
+        }
+        return times(percent).divide(HUNDRED);
     }
 
     /** Aplica desconto percentual (ex.: 10% -> amount * (1-0.10)). */
     public Money applyDiscount(BigDecimal percent) {
         validatePercent(percent);
+        if (compact) {
+            int whole = percent.intValue();
+            if (percent.compareTo(WHOLE_PERCENTS[whole]) == 0) {
+                Money result = timesScaled(100 - whole, 2);
+                if (result != null) return result;
+            }
+        }
         BigDecimal factor =
-                BigDecimal.ONE.subtract(
-                        percent.divide(BigDecimal.valueOf(100), DEFAULT_MATH_CONTEXT));
+                BigDecimal.ONE.subtract(percent.divide(HUNDRED, DEFAULT_MATH_CONTEXT));
         return times(factor);
     }
 
@@ -259,36 +367,159 @@ public class Money implements Comparable<Money>, Serializable {
         Objects.requireNonNull(rate, "rate");
         if (rate.compareTo(BigDecimal.ZERO) <= 0)
             throw new IllegalArgumentException("rate deve ser > 0");
-        BigDecimal targetAmount = this.amount.multiply(rate, DEFAULT_MATH_CONTEXT);
+        BigDecimal targetAmount = this.getAmount().multiply(rate, DEFAULT_MATH_CONTEXT);
         return Money.ofMajor(targetAmount, targetCurrency).withOfficialScale();
     }
 
     /** Ajusta internamente para a escala “oficial” da moeda. */
     public Money withOfficialScale() {
+        if (compact) return this;
         return Money.ofMajor(this.toOfficialScale(), this.currency());
     }
 
-    // ====== Comparable / toString ======
+    // ====== Comparable / equals / toString ======
     @Override
     public int compareTo(Money other) {
         ensureSameCurrency(other);
-        return this.amount.compareTo(other.amount);
+        if (this.compact && other.compact) return Long.compare(this.minor, other.minor);
+        return this.getAmount().compareTo(other.getAmount());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money other)) return false;
+        // a forma é canônica: um valor que cabe no long nunca fica na forma decimal
+        if (this.compact != other.compact || this.metadata != other.metadata) return false;
+        return compact ? this.minor == other.minor : this.amount.equals(other.amount);
     }
 
-	@Override
-	public String toString() {
-		Locale locale = guessLocale(currency());
-		DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-		symbols.setCurrencySymbol(this.currency().getSymbol(locale));
+    @Override
+    public int hashCode() {
+        int valueHash = compact ? Long.hashCode(minor) : amount.hashCode();
+        return 31 * Objects.hashCode(getCurrencyCode()) + valueHash;
+    }
+
+    @Override
+    public String toString() {
+        return formatTo(new StringBuilder(24)).toString();
+    }
+
+    // ====== Formatação ======
+
+    /**
+     * Escreve o valor formatado (ex.: "R$ 1.234,50") em {@code out}. Valores compactos não alocam
+     * nada além do que o próprio {@code out} precisar para crescer.
+     */
+    public void formatTo(Appendable out) throws IOException {
+        if (compact) metadata.formatMinor(minor, out);
+        else metadata.formatDecimal(amount, out);
+    }
+
+    public StringBuilder formatTo(StringBuilder out) {
+        try {
+            formatTo((Appendable) out);
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder não lança IOException
+        }
+    }
+
+    // ====== Serialização ======
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(getCurrencyCode());
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        String currencyCode = (String) in.readObject();
+        // a mesma instância do registro: equals compara a moeda por referência
+        this.metadata = currencyCode == null ? null : CurrencyMetadata.of(currencyCode);
+    }
 
-		DecimalFormat df = new DecimalFormat("¤ #,##0.00", symbols);
-		return df.format(amount);
-	}
     // ====== Helpers ======
     private void ensureSameCurrency(Money other) {
-        if (!this.currencyCode.equals(other.currencyCode)) {
+        if (this.metadata != other.metadata) {
             throw new IllegalArgumentException(
-                    "Moedas diferentes: %s vs %s".formatted(this.currencyCode, other.currencyCode));
+                    "Moedas diferentes: %s vs %s"
+                            .formatted(this.getCurrencyCode(), other.getCurrencyCode()));
         }
     }
+
+    private int signum() {
+        return compact ? Long.signum(minor) : amount.signum();
+    }
+
+    /**
+     * Multiplica o valor compacto por {@code unscaled × 10^-scale}, arredondando HALF_UP para a
+     * escala da moeda. Retorna {@code null} quando o produto sai da faixa exata do long/DECIMAL64.
+     */
+    private Money timesScaled(long unscaled, int scale) {
+        long result = multiplyMinor(minor, unscaled, scale);
+        return result == NOT_EXACT ? null : new Money(result, this.metadata);
+    }
+
+    /**
+     * {@code minorUnits × unscaled × 10^-scale} arredondado HALF_UP, ou {@link #NOT_EXACT} quando o
+     * produto não é exato em long/DECIMAL64 e o chamador deve usar o caminho decimal.
+     */
+    static long multiplyMinor(long minorUnits, long unscaled, int scale) {
+        long product;
+        try {
+            product = Math.multiplyExact(minorUnits, unscaled);
+        } catch (ArithmeticException overflow) {
+            return NOT_EXACT;
+        }
+        if (product <= -MAX_EXACT_PRODUCT || product >= MAX_EXACT_PRODUCT) return NOT_EXACT;
+        return divideHalfUp(product, POW10[scale]);
+    }
+
+    /** O fator em centésimos quando ele tem no máximo 2 casas decimais; senão {@link #NOT_EXACT}. */
+    static long exactHundredths(double factor) {
+        double hundredths = factor * 100;
+        long unscaled = (long) hundredths;
+        return unscaled == hundredths && unscaled / 100.0 == factor ? unscaled : NOT_EXACT;
+    }
+
+    /** Usado pelo {@link MoneyAccumulator} para somar sem passar pelo {@link #getAmount()}. */
+    boolean isCompact() {
+        return compact;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) quotient += Long.signum(dividend);
+        return quotient;
+    }
+
+    /** Arredonda um resultado decimal para a escala oficial, como faz {@link #withOfficialScale}. */
+    private Money rounded(BigDecimal value) {
+        return fromDecimal(value.setScale(metadata.fractionDigits(), DEFAULT_ROUNDING), metadata);
+    }
+
+    /** Cria a forma canônica: compacta sempre que o valor cabe na escala oficial da moeda. */
+    private static Money fromDecimal(BigDecimal value, CurrencyMetadata metadata) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        int digits = metadata.fractionDigits();
+        if (stripped.scale() <= digits
+                && stripped.precision() - stripped.scale() + digits <= MAX_COMPACT_DIGITS) {
+            Money money = new Money(stripped.movePointRight(digits).longValueExact(), metadata);
+            money.amount = stripped;
+            return money;
+        }
+        return new Money(stripped, metadata);
+    }
+
+    /** Chamado pelo JPA ao hidratar as colunas: deixa a instância na forma canônica. */
+    private void normalize() {
+        if (amount == null || metadata == null) return;
+        Money canonical = fromDecimal(amount, metadata);
+        this.minor = canonical.minor;
+        this.compact = canonical.compact;
+        this.amount = canonical.amount;
+    }
 }
@@ -0,0 +1,97 @@
+package br.com.joaobarbosa.shared.value_objects;
+
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Somatório mutável de {@link Money} para totais em lote (subtotal de pedidos, relatórios,
+ * faturamento diário). Soma as unidades menores em um long e só cria um {@link Money} ao final,
+ * em {@link #toMoney()}. O resultado é idêntico a {@code reduce(zero, Money::plus)}.
+ *
+ * <p>Não é thread-safe: use uma instância por cálculo.
+ */
+public final class MoneyAccumulator {
+    private final Currency currency;
+    private final String currencyCode;
+    private long minor;
+
+    // Só é usado quando alguma parcela não é compacta ou a soma estoura o long; a partir daí
+    // seguimos pelo caminho decimal do próprio Money.
+    private Money spilled;
+
+    public MoneyAccumulator(Currency currency) {
+        this.currency = Objects.requireNonNull(currency, "currency");
+        this.currencyCode = currency.getCurrencyCode();
+    }
+
+    public MoneyAccumulator() {
+        this(Money.DEFAULT_CURRENCY);
+    }
+
+    public MoneyAccumulator add(Money value) {
+        ensureSameCurrency(value);
+        if (spilled == null && value.isCompact()) {
+            long term = value.toMinorUnits();
+            long sum = minor + term;
+            // overflow só acontece quando o resultado troca o sinal das duas parcelas
+            if (((minor ^ sum) & (term ^ sum)) >= 0) {
+                minor = sum;
+                return this;
+            }
+        }
+        Money total = toMoney().plus(value);
+        if (total.isCompact()) {
+            minor = total.toMinorUnits();
+            spilled = null;
+        } else {
+            spilled = total;
+        }
+        return this;
+    }
+
+    /** Soma {@code value.times(factor)} sem criar o Money intermediário (ex.: meia-entrada). */
+    public MoneyAccumulator addTimes(Money value, double factor) {
+        ensureSameCurrency(value);
+        if (spilled == null && value.isCompact()) {
+            long hundredths = Money.exactHundredths(factor);
+            if (hundredths != Money.NOT_EXACT) {
+                long term = Money.multiplyMinor(value.toMinorUnits(), hundredths, 2);
+                if (term != Money.NOT_EXACT) {
+                    long sum = minor + term;
+                    if (((minor ^ sum) & (term ^ sum)) >= 0) {
+                        minor = sum;
+                        return this;
+                    }
+                }
+            }
+        }
+        return add(value.times(factor));
+    }
+
+    public MoneyAccumulator subtract(Money value) {
+        return add(value.negate());
+    }
+
+    public MoneyAccumulator reset() {
+        minor = 0;
+        spilled = null;
+        return this;
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    /** Valor acumulado até aqui; o acumulador continua utilizável. */
+    public Money toMoney() {
+        return spilled != null ? spilled : Money.ofMinor(minor, currency);
+    }
+
+    private void ensureSameCurrency(Money value) {
+        Objects.requireNonNull(value, "value");
+        if (!currencyCode.equals(value.getCurrencyCode())) {
+            throw new IllegalArgumentException(
+                    "Moedas diferentes: %s vs %s".formatted(currencyCode, value.getCurrencyCode()));
+        }
+    }
+}
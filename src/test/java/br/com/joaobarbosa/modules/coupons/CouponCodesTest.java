@@ -0,0 +1,32 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CouponCodesTest {
+
+    @Test
+    @DisplayName("Deve remover espaços das pontas e passar para maiúsculas")
+    void shouldNormalizeTypedCodes() {
+        assertEquals("PROMO10", CouponCodes.normalize("  promo10\t"));
+        assertEquals("PROMO-10", CouponCodes.normalize("Promo-10"));
+        assertEquals("ÇUPOM", CouponCodes.normalize("çupom"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância quando o código já é canônico")
+    void shouldNotAllocateForCanonicalCodes() {
+        String code = "A1B2C3D4";
+        assertSame(code, CouponCodes.normalize(code));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar códigos vazios ou longos demais")
+    void shouldRejectImpossibleCodes() {
+        assertNull(CouponCodes.normalize(null));
+        assertNull(CouponCodes.normalize("   "));
+        assertNull(CouponCodes.normalize("X".repeat(CouponCodes.MAX_LENGTH + 1)));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.joaobarbosa.modules.coupons;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.joaobarbosa.modules.orders.Order;
+import br.com.joaobarbosa.modules.orders.OrderItem;
+import br.com.joaobarbosa.modules.orders.OrderStatus;
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import br.com.joaobarbosa.shared.exceptions.client.ConflictException;
+import br.com.joaobarbosa.shared.value_objects.Money;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CouponRedemptionServiceTest {
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final AtomicInteger claims = new AtomicInteger();
+
+    private CouponRedemptionService service;
+
+    @BeforeEach
+    void setUp() {
+        CouponLookupService lookup =
+                new CouponLookupService(
+                        couponRepository, Duration.ofMinutes(10), 100, Duration.ofMinutes(1), 100);
+        service = new CouponRedemptionService(lookup, couponRepository, entityManager);
+    }
+
+    private Order newOrder(double price) {
+        Order order =
+                Order.builder().withId(UUID.randomUUID()).withStatus(OrderStatus.PENDING).build();
+        order.addItem(
+                OrderItem.builder()
+                        .seatId(UUID.randomUUID())
+                        .seatLabel("A1")
+                        .isKindHalf(false)
+                        .unitPrice(Money.of(price))
+                        .build());
+        return order;
+    }
+
+    /** Cupom ativo no banco; {@code claimResult} é o que o UPDATE condicional devolve. */
+    private Coupon coupon(String code, CouponType type, Money value, int claimResult) {
+        UUID id = UUID.randomUUID();
+        when(couponRepository.findActiveByCode(code))
+                .thenReturn(Optional.of(new ActiveCoupon(id, code, type, value)));
+        when(couponRepository.claim(id))
+                .thenAnswer(
+                        invocation -> {
+                            claims.incrementAndGet();
+                            return claimResult;
+                        });
+        // o que o banco tem depois do claim
+        Coupon redeemed =
+                Coupon.builder()
+                        .id(id)
+                        .code(code)
+                        .type(type)
+                        .value(value)
+                        .isActive(false)
+                        .redeemedAt(Instant.now())
+                        .build();
+        when(couponRepository.getReferenceById(id)).thenReturn(redeemed);
+        return redeemed;
+    }
+
+    @Test
+    @DisplayName("Deve ligar ao pedido o cupom já resgatado depois do claim")
+    void shouldAttachRedeemedCouponAfterClaim() {
+        Order order = newOrder(50);
+        Coupon redeemed = coupon("DEZ", CouponType.FIXED, Money.of(10), 1);
+
+        Coupon coupon = service.redeem(order, "dez");
+
+        assertSame(redeemed, coupon);
+        assertSame(redeemed, order.getCoupon());
+        assertEquals(Money.of(40), order.getTotalAmount());
+        verify(entityManager).refresh(redeemed);
+    }
+
+    @Test
+    @DisplayName("Cupom levado por outro checkout não deve ficar no pedido")
+    void shouldLeaveOrderWithoutCouponWhenAlreadyRedeemed() {
+        Order order = newOrder(50);
+        coupon("DEZ", CouponType.FIXED, Money.of(10), 0);
+
+        assertThrows(ConflictException.class, () -> service.redeem(order, "DEZ"));
+        assertNull(order.getCoupon());
+    }
+
+    @Test
+    @DisplayName("Deve validar pelo cupom em cache, antes de consumi-lo")
+    void shouldValidateBeforeClaiming() {
+        Order order = newOrder(5);
+        coupon("DEZ", CouponType.FIXED, Money.of(10), 1);
+
+        assertThrows(BadRequestException.class, () -> service.redeem(order, "DEZ"));
+        assertEquals(0, claims.get());
+        assertNull(order.getCoupon());
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.joaobarbosa.modules.movies;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MovieSearchIndexTest {
+    private final MovieSearchIndex index = new MovieSearchIndex();
+
+    private Movie movie(String title, String synopsis) {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle(title);
+        movie.setSynopsis(synopsis);
+        return movie;
+    }
+
+    private List<String> titles(String query) {
+        return index.search(query, 10).stream().map(MovieSearchIndex.Hit::title).toList();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas")
+    void shouldBeAccentInsensitive() {
+        index.index(movie("Cidade de Deus", "Crime e violência no Rio"));
+
+        assertEquals(List.of("Cidade de Deus"), titles("VIOLENCIA"));
+        assertEquals(List.of("Cidade de Deus"), titles("cidade deus"));
+    }
+
+    @Test
+    @DisplayName("Deve casar o último termo por prefixo (autocomplete)")
+    void shouldMatchPrefix() {
+        index.index(movie("Deadpool", "Anti-herói"));
+        index.index(movie("Central do Brasil", "Viagem pelo sertão"));
+
+        assertEquals(List.of("Deadpool"), titles("de"));
+        assertEquals(List.of("Central do Brasil"), titles("viagem sert"));
+        assertEquals(List.of(), titles("sert viagem"));
+    }
+
+    @Test
+    @DisplayName("Título deve pesar mais que a sinopse")
+    void shouldRankTitleAboveSynopsis() {
+        index.index(movie("Tropa de Elite", "Ação policial"));
+        index.index(movie("Ação Final", "Explosões"));
+
+        assertEquals(List.of("Ação Final", "Tropa de Elite"), titles("acao"));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e remover filmes do índice")
+    void shouldUpdateAndRemove() {
+        Movie movie = movie("Bacurau", "Faroeste no sertão");
+        index.index(movie);
+
+        movie.setSynopsis("Vilarejo some do mapa");
+        index.index(movie);
+        assertEquals(List.of(), titles("faroeste"));
+        assertEquals(List.of("Bacurau"), titles("vilarejo"));
+        assertEquals(1, index.size());
+
+        index.remove(movie.getId());
+        assertEquals(List.of(), titles("bacurau"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar slots de filmes removidos sem misturar resultados")
+    void shouldReuseFreedSlots() {
+        Movie first = movie("Aquarius", "Drama no Recife");
+        Movie second = movie("O Som ao Redor", "Drama no Recife");
+        index.index(first);
+        index.index(second);
+        index.index(movie("Tatuagem", "Drama no Recife"));
+
+        index.remove(first.getId());
+        index.index(movie("Recife Frio", "Ficção"));
+        index.remove(second.getId());
+
+        assertEquals(List.of("Recife Frio", "Tatuagem"), titles("recife"));
+        assertEquals(List.of("Tatuagem"), titles("drama"));
+        assertEquals(2, index.size());
+    }
+}
@@ -7,11 +7,23 @@ import br.com.joaobarbosa.modules.coupons.CouponType;
 import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
 import br.com.joaobarbosa.shared.value_objects.Money;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class OrderTest {
 
+    @BeforeAll
+    static void enableTotalsConsistencyCheck() {
+        Order.setTotalsConsistencyCheck(true);
+    }
+
+    @AfterAll
+    static void disableTotalsConsistencyCheck() {
+        Order.setTotalsConsistencyCheck(false);
+    }
+
     // ============================================================================
     // =                               HELPERS                                    =
     // ============================================================================
@@ -28,6 +40,12 @@ class OrderTest {
                 .build();
     }
 
+    private OrderItem newSavedItem(double value, boolean isHalf) {
+        OrderItem item = newItem(value, isHalf);
+        item.setId(UUID.randomUUID());
+        return item;
+    }
+
     // ============================================================================
     // =                     A) SUBTOTAL / TOTAL BÁSICOS                          =
     // ============================================================================
@@ -313,6 +331,24 @@ class OrderTest {
         assertNull(item.getOrder());
     }
 
+    @Test
+    @DisplayName("removeItem deve remover o próprio item mesmo entre itens ainda não salvos")
+    void shouldRemoveTheSameUnsavedItem() {
+        Order order = newPendingOrder();
+        OrderItem first = newItem(30, false);
+        OrderItem second = newItem(12, false);
+        order.addItem(first);
+        order.addItem(second);
+        assertEquals(Money.of(42), order.getSubtotal());
+
+        order.removeItem(second);
+
+        assertEquals(1, order.getItems().size());
+        assertSame(first, order.getItems().get(0));
+        assertSame(order, first.getOrder());
+        assertEquals(Money.of(30), order.getSubtotal());
+    }
+
     // ============================================================================
     // =                         G) TRATAMENTO DE NULOS                            =
     // ============================================================================
@@ -330,4 +366,52 @@ class OrderTest {
         Order order = newPendingOrder();
         assertDoesNotThrow(() -> order.removeItem(null));
     }
+
+    // ============================================================================
+    // =                   H) TOTAIS MEMOIZADOS / INVALIDAÇÃO                     =
+    // ============================================================================
+
+    @Test
+    @DisplayName("Deve atualizar subtotal e total ao remover item com cupom percentual")
+    void shouldUpdateTotalsWhenRemovingItem() {
+        Order o = newPendingOrder();
+        OrderItem i1 = newSavedItem(100, false);
+        OrderItem i2 = newSavedItem(40, true);
+        o.addItem(i1);
+        o.addItem(i2);
+        o.applyCoupon(
+                Coupon.builder()
+                        .type(CouponType.PERCENT)
+                        .value(Money.of(10))
+                        .isActive(true)
+                        .build());
+        assertEquals(Money.of(108), o.getTotalAmount());
+
+        o.removeItem(i2);
+
+        assertEquals(Money.of(100), o.getSubtotal());
+        assertEquals(Money.of(90), o.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular totais quando o preço de um item já adicionado muda")
+    void shouldInvalidateTotalsWhenItemChanges() {
+        Order o = newPendingOrder();
+        OrderItem item = newItem(20, false);
+        o.addItem(item);
+        assertEquals(Money.of(20), o.getSubtotal());
+
+        item.setIsKindHalf(true);
+        assertEquals(Money.of(10), o.getSubtotal());
+
+        item.setUnitPrice(Money.of(50));
+        assertEquals(Money.of(25), o.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Lista de itens exposta não deve permitir alteração direta")
+    void shouldExposeReadOnlyItems() {
+        Order o = newPendingOrder();
+        assertThrows(UnsupportedOperationException.class, () -> o.getItems().add(newItem(1, false)));
+    }
 }
@@ -0,0 +1,68 @@
+package br.com.joaobarbosa.modules.room;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import br.com.joaobarbosa.modules.seats.SeatBlock;
+import br.com.joaobarbosa.modules.seats.SeatMapService;
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomServiceTest {
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private final Room room =
+            Room.builder()
+                    .withId(UUID.randomUUID())
+                    .withName("Sala 1")
+                    .withRows(5)
+                    .withCols(8)
+                    .build();
+    private final AtomicInteger roomQueries = new AtomicInteger();
+
+    private RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.findById(room.getId()))
+                .thenAnswer(
+                        invocation -> {
+                            roomQueries.incrementAndGet();
+                            return Optional.of(room);
+                        });
+        when(roomRepository.save(room)).thenReturn(room);
+        when(orderItemRepository.findOccupiedSeatPositions(room.getId())).thenReturn(List.of());
+        roomService =
+                new RoomService(
+                        roomRepository, new SeatMapService(roomRepository, orderItemRepository));
+    }
+
+    @Test
+    @DisplayName("Recomendação deve usar o mapa em memória e só buscar a sala na primeira vez")
+    void shouldRecommendFromCachedSeatMap() {
+        Optional<SeatBlock> first = roomService.recommendSeats(room.getId(), 3);
+        Optional<SeatBlock> second = roomService.recommendSeats(room.getId(), 4);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(1, roomQueries.get());
+    }
+
+    @Test
+    @DisplayName("Recomendação deve respeitar as novas dimensões depois de redimensionar a sala")
+    void shouldUseNewDimensionsAfterResize() {
+        roomService.recommendSeats(room.getId(), 8);
+
+        roomService.updateRoom(room.getId(), Optional.empty(), Optional.empty(), Optional.of(4));
+
+        assertThrows(BadRequestException.class, () -> roomService.recommendSeats(room.getId(), 8));
+        assertTrue(roomService.recommendSeats(room.getId(), 4).isPresent());
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.joaobarbosa.modules.seats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatFinderTest {
+
+    @Test
+    @DisplayName("Em uma sala vazia deve recomendar o bloco central")
+    void shouldPickCentreOfEmptyRoom() {
+        SeatMap seatMap = new SeatMap(9, 10);
+
+        SeatBlock block = SeatFinder.findBest(seatMap, 4).orElseThrow();
+
+        assertEquals(new SeatBlock(4, 3, 4), block);
+        assertEquals(List.of("E4", "E5", "E6", "E7"), block.labels());
+    }
+
+    @Test
+    @DisplayName("Deve contornar assentos ocupados buscando o bloco livre mais central")
+    void shouldSkipOccupiedSeats() {
+        SeatMap seatMap = new SeatMap(1, 10);
+        seatMap.hold(seatMap.indexOf(0, 5));
+
+        assertEquals(new SeatBlock(0, 1, 4), SeatFinder.findBest(seatMap, 4).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve considerar linhas que atravessam palavras de 64 bits")
+    void shouldHandleRowsAcrossWords() {
+        SeatMap seatMap = new SeatMap(3, 40);
+        for (int col = 0; col < 40; col++) {
+            if (col != 30 && col != 31) seatMap.hold(seatMap.indexOf(1, col));
+            seatMap.hold(seatMap.indexOf(0, col));
+        }
+        for (int col = 0; col < 40; col++) seatMap.hold(seatMap.indexOf(2, col));
+
+        assertEquals(new SeatBlock(1, 30, 2), SeatFinder.findBest(seatMap, 2).orElseThrow());
+        assertTrue(SeatFinder.findBest(seatMap, 3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Salas com mais de 64 colunas devem usar o caminho genérico")
+    void shouldSupportWideRooms() {
+        SeatMap seatMap = new SeatMap(1, 100);
+        for (int col = 38; col < 61; col++) seatMap.hold(seatMap.indexOf(0, col));
+
+        assertEquals(new SeatBlock(0, 61, 3), SeatFinder.findBest(seatMap, 3).orElseThrow());
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.joaobarbosa.modules.seats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.joaobarbosa.modules.orders.OccupiedSeat;
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import br.com.joaobarbosa.modules.orders.OrderRepository;
+import br.com.joaobarbosa.modules.orders.PendingSeat;
+import br.com.joaobarbosa.modules.room.Room;
+import br.com.joaobarbosa.modules.room.RoomRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatHoldExpiryServiceTest {
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final Room room =
+            Room.builder()
+                    .withId(UUID.randomUUID())
+                    .withName("Sala 1")
+                    .withRows(10)
+                    .withCols(10)
+                    .build();
+    private final List<PendingSeat> pendingSeats = new ArrayList<>();
+
+    private SeatMapService seatMapService;
+
+    @BeforeEach
+    void setUp() {
+        seatMapService = new SeatMapService(roomRepository, orderItemRepository);
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+        when(orderItemRepository.streamOccupiedSeats())
+                .thenAnswer(
+                        invocation ->
+                                pendingSeats.stream()
+                                        .map(s -> new OccupiedSeat(s.roomId(), s.position())));
+        when(orderItemRepository.findPendingSeats()).thenReturn(pendingSeats);
+    }
+
+    private UUID pendingOrder(Instant createdAt, String... labels) {
+        UUID orderId = UUID.randomUUID();
+        for (String label : labels) {
+            pendingSeats.add(
+                    new PendingSeat(orderId, createdAt, room.getId(), SeatPosition.parse(label)));
+        }
+        when(orderRepository.cancelPendingOrders(List.of(orderId))).thenReturn(List.of(orderId));
+        return orderId;
+    }
+
+    /** Simula a subida da aplicação: mapas reconstruídos do banco e reservas retomadas. */
+    private SeatHoldExpiryService restart(Duration holdTtl, Duration tick) {
+        seatMapService.rebuildAll();
+        SeatHoldExpiryService service =
+                new SeatHoldExpiryService(
+                        seatMapService, orderRepository, orderItemRepository, holdTtl, tick);
+        service.restorePendingHolds();
+        return service;
+    }
+
+    @Test
+    @DisplayName("Pedidos vencidos com a aplicação fora devem ser cancelados e liberados na subida")
+    void shouldCancelOrdersExpiredWhileDown() {
+        UUID expired = pendingOrder(Instant.now().minus(Duration.ofMinutes(20)), "A1", "A2");
+        pendingOrder(Instant.now().minus(Duration.ofMinutes(1)), "B1");
+
+        SeatHoldExpiryService service = restart(Duration.ofMinutes(10), Duration.ofSeconds(1));
+
+        verify(orderRepository).cancelPendingOrders(List.of(expired));
+        assertEquals(1, service.trackedHolds());
+        assertEquals(1, seatMapService.getSeatMap(room).occupiedCount());
+        assertTrue(seatMapService.isSeatFree(room, 0, 0));
+        assertFalse(seatMapService.isSeatFree(room, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Reserva retomada após restart deve expirar pelo que resta da janela")
+    void shouldExpireRestoredHoldWithRemainingWindow() throws InterruptedException {
+        Duration holdTtl = Duration.ofSeconds(1);
+        pendingOrder(Instant.now().minus(Duration.ofMillis(700)), "C3", "C4");
+
+        SeatHoldExpiryService service = restart(holdTtl, Duration.ofMillis(10));
+        service.expireHolds();
+        assertEquals(1, service.trackedHolds());
+        assertEquals(2, seatMapService.getSeatMap(room).occupiedCount());
+
+        // Bem menos que o holdTtl inteiro: só o que restava da janela antes do restart.
+        Thread.sleep(600);
+        service.expireHolds();
+        assertEquals(0, service.trackedHolds());
+        assertEquals(0, seatMapService.getSeatMap(room).occupiedCount());
+    }
+}
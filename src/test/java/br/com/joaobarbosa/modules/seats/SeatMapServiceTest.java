@@ -0,0 +1,72 @@
+package br.com.joaobarbosa.modules.seats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.joaobarbosa.modules.orders.OrderItemRepository;
+import br.com.joaobarbosa.modules.room.Room;
+import br.com.joaobarbosa.modules.room.RoomRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatMapServiceTest {
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private final Room room =
+            Room.builder()
+                    .withId(UUID.randomUUID())
+                    .withName("Sala 1")
+                    .withRows(10)
+                    .withCols(10)
+                    .build();
+    // Assentos de pedidos não cancelados "no banco"
+    private final List<SeatPosition> occupied = new ArrayList<>();
+
+    private SeatMapService seatMapService;
+
+    @BeforeEach
+    void setUp() {
+        seatMapService = new SeatMapService(roomRepository, orderItemRepository);
+        when(orderItemRepository.findOccupiedSeatPositions(room.getId())).thenReturn(occupied);
+    }
+
+    /** Reserva os assentos e simula o pedido PENDING gravado com eles. */
+    private SeatHold hold(String... labels) {
+        SeatHold hold = seatMapService.holdSeats(room, List.of(labels));
+        occupied.addAll(hold.positions());
+        return hold;
+    }
+
+    @Test
+    @DisplayName("Liberar reserva após redimensionar a sala deve soltar só os assentos dela")
+    void shouldReleaseByPositionAfterResize() {
+        SeatHold hold = hold("B3");
+        hold("C3");
+
+        // 10 -> 5 colunas: o índice antigo de B3 (12) passa a ser C3 no mapa novo
+        room.setCols(5);
+        assertEquals(2, seatMapService.getSeatMap(room).occupiedCount());
+
+        seatMapService.releaseSeats(hold);
+
+        assertTrue(seatMapService.isSeatFree(room, 1, 2));
+        assertFalse(seatMapService.isSeatFree(room, 2, 2));
+    }
+
+    @Test
+    @DisplayName("Assentos fora da sala redimensionada devem ser ignorados na liberação")
+    void shouldIgnoreSeatsOutsideResizedRoom() {
+        SeatHold hold = hold("J10", "A1");
+
+        room.setRows(5);
+        room.setCols(5);
+        seatMapService.getSeatMap(room);
+
+        assertDoesNotThrow(() -> seatMapService.releaseSeats(hold));
+        assertEquals(0, seatMapService.getSeatMap(room).occupiedCount());
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.joaobarbosa.modules.seats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatMapTest {
+
+    @Test
+    @DisplayName("Deve marcar, consultar e liberar assentos")
+    void shouldHoldAndReleaseSeats() {
+        SeatMap seatMap = new SeatMap(20, 30);
+        int index = seatMap.indexOf(19, 29);
+
+        assertFalse(seatMap.isOccupied(index));
+        assertTrue(seatMap.hold(index));
+        assertFalse(seatMap.hold(index));
+        assertTrue(seatMap.isOccupied(index));
+
+        assertTrue(seatMap.release(index));
+        assertFalse(seatMap.release(index));
+        assertFalse(seatMap.isOccupied(index));
+    }
+
+    @Test
+    @DisplayName("Deve contar ocupados e disponíveis atravessando palavras de 64 bits")
+    void shouldCountAcrossWords() {
+        SeatMap seatMap = new SeatMap(10, 13);
+        seatMap.hold(0);
+        seatMap.hold(63);
+        seatMap.hold(64);
+        seatMap.hold(129);
+
+        assertEquals(4, seatMap.occupiedCount());
+        assertEquals(126, seatMap.availableCount());
+    }
+
+    @Test
+    @DisplayName("holdAll deve reservar tudo ou nada, mesmo atravessando palavras")
+    void shouldHoldGroupAllOrNothing() {
+        SeatMap seatMap = new SeatMap(20, 30);
+        seatMap.hold(130);
+
+        assertFalse(seatMap.holdAll(10, 70, 130));
+        assertEquals(1, seatMap.occupiedCount());
+
+        assertTrue(seatMap.holdAll(10, 70, 131));
+        assertEquals(4, seatMap.occupiedCount());
+
+        seatMap.releaseAll(10, 70, 131);
+        assertEquals(1, seatMap.occupiedCount());
+    }
+
+    @Test
+    @DisplayName("Grupos concorrentes nunca devem dividir o mesmo assento")
+    void shouldNeverDoubleBookUnderContention() throws InterruptedException {
+        SeatMap seatMap = new SeatMap(20, 30);
+        AtomicInteger heldSeats = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            executor.execute(
+                    () -> {
+                        for (int start = offset; start + 3 < seatMap.capacity(); start += 2) {
+                            if (seatMap.holdAll(start, start + 1, start + 2, start + 3)) {
+                                heldSeats.addAndGet(4);
+                            }
+                        }
+                    });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(heldSeats.get(), seatMap.occupiedCount());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar posições fora da sala")
+    void shouldRejectOutOfBounds() {
+        SeatMap seatMap = new SeatMap(2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> seatMap.indexOf(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> seatMap.hold(6));
+    }
+
+    @Test
+    @DisplayName("Deve converter rótulos de assento em índices e vice-versa")
+    void shouldConvertSeatLabels() {
+        assertEquals(0, SeatLabels.indexOf("A1", 30, 40));
+        assertEquals(40 + 11, SeatLabels.indexOf("B12", 30, 40));
+        assertEquals(26 * 40, SeatLabels.indexOf("AA1", 30, 40));
+        assertEquals("AA1", SeatLabels.labelOf(26, 0));
+        assertEquals("Z40", SeatLabels.labelOf(25, 39));
+
+        assertEquals(-1, SeatLabels.indexOf("A41", 30, 40));
+        assertEquals(-1, SeatLabels.indexOf("A0", 30, 40));
+        assertEquals(-1, SeatLabels.indexOf("12", 30, 40));
+        assertEquals(-1, SeatLabels.indexOf("A1B", 30, 40));
+    }
+}
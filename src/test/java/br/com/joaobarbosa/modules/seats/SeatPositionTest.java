@@ -0,0 +1,64 @@
+package br.com.joaobarbosa.modules.seats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatPositionTest {
+
+    @Test
+    @DisplayName("Deve empacotar linha e coluna e voltar ao mesmo rótulo")
+    void shouldRoundTripLabels() {
+        for (String label : new String[] {"A1", "B12", "Z40", "AA3", "ZZ100"}) {
+            SeatPosition position = SeatPosition.parse(label);
+            assertNotNull(position, label);
+            assertEquals(label, position.label());
+            assertEquals(position, new SeatPosition(position.packed()));
+        }
+
+        SeatPosition b12 = SeatPosition.of(1, 11);
+        assertEquals(b12, SeatPosition.parse("b12"));
+        assertEquals((1 << 16) | 11, b12.packed());
+        assertEquals(1 * 30 + 11, b12.indexIn(30));
+    }
+
+    @Test
+    @DisplayName("Rótulos inválidos não devem gerar posição")
+    void shouldRejectInvalidLabels() {
+        for (String label : new String[] {null, "", "A", "12", "A0", "1A", "A1B", "A-1"}) {
+            assertNull(SeatPosition.parse(label), String.valueOf(label));
+        }
+        assertThrows(IllegalArgumentException.class, () -> SeatPosition.of(-1, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> SeatPosition.of(0, SeatPosition.MAX_COORDINATE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SeatPosition(-1));
+    }
+
+    @Test
+    @DisplayName("A tabela de rótulos deve ser compartilhada e internar os rótulos")
+    void shouldShareInternedLabelTables() {
+        SeatLabelTable table = SeatLabelTable.of(26, 40);
+        assertSame(table, SeatLabelTable.of(26, 40));
+
+        assertEquals("A1", table.label(0));
+        assertEquals("Z40", table.label(26 * 40 - 1));
+        assertEquals("C5", table.label(SeatPosition.parse("C5")));
+        assertSame(table.label(SeatPosition.of(2, 4)), SeatLabelTable.of(10, 10).label(24));
+        assertThrows(IllegalArgumentException.class, () -> table.label(SeatPosition.of(26, 0)));
+    }
+
+    @Test
+    @DisplayName("O conversor JPA deve gravar o int empacotado")
+    void shouldConvertToPackedInt() {
+        SeatPositionConverter converter = new SeatPositionConverter();
+        SeatPosition position = SeatPosition.of(3, 7);
+
+        assertEquals(
+                Integer.valueOf(position.packed()), converter.convertToDatabaseColumn(position));
+        assertEquals(position, converter.convertToEntityAttribute(position.packed()));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.joaobarbosa.shared.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.joaobarbosa.shared.exceptions.client.BadRequestException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o cursor sem perder precisão")
+    void shouldRoundTrip() {
+        Cursor cursor = new Cursor(Instant.parse("2025-03-01T12:30:45.123456Z"), UUID.randomUUID());
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursores inválidos com 400")
+    void shouldRejectInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> Cursor.decode("nao-e-um-cursor"));
+    }
+
+    @Test
+    @DisplayName("Deve indicar próxima página só quando houver linha extra")
+    void shouldBuildPages() {
+        UUID id = UUID.randomUUID();
+        Instant now = Instant.parse("2025-03-01T12:00:00Z");
+
+        CursorPage<Integer> last = CursorPage.of(List.of(1, 2), 2, i -> new Cursor(now, id));
+        assertNull(last.nextCursor());
+
+        CursorPage<Integer> page = CursorPage.of(List.of(1, 2, 3), 2, i -> new Cursor(now, id));
+        assertEquals(List.of(1, 2), page.items());
+        assertEquals(new Cursor(now, id), Cursor.decode(page.nextCursor()));
+    }
+}
@@ -3,6 +3,10 @@ package br.com.joaobarbosa.shared.utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CodeGeneratorTest {
@@ -14,4 +18,47 @@ class CodeGeneratorTest {
         assertNotNull(code);
         assertEquals(length, code.length());
     }
+
+    @Test
+    @DisplayName("Deve usar só o alfabeto Crockford base32")
+    void testGenerateCodeUsesCrockfordAlphabet() {
+        for (int i = 0; i < 200; i++) {
+            assertTrue(CodeGenerator.generateCode(40).matches("[0-9A-HJKMNP-TV-Z]{40}"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos distintos em lote até esgotar o espaço de códigos")
+    void testGenerateUniqueCodesCoversWholeSpace() {
+        // 3 caracteres = 2^15 códigos: o lote inteiro é uma permutação do espaço
+        List<String> codes = CodeGenerator.generateUniqueCodes(1 << 15, 3).toList();
+        assertEquals(1 << 15, new HashSet<>(codes).size());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CodeGenerator.generateUniqueCodes((1 << 15) + 1, 3));
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos distintos em lote acima do tamanho da permutação")
+    void testGenerateUniqueLongCodes() {
+        int length = CodeGenerator.MAX_PERMUTED_LENGTH + 4;
+        Set<String> codes = new HashSet<>();
+        CodeGenerator.generateUniqueCodes(10_000, length)
+                .forEach(code -> assertTrue(codes.add(code) && code.length() == length));
+        assertEquals(10_000, codes.size());
+    }
+
+    @Test
+    @DisplayName("A permutação de Feistel deve ser uma bijeção, também com bits ímpares")
+    void testFeistelPermutationIsBijective() {
+        for (int bits : new int[] {10, 11}) {
+            FeistelPermutation permutation = new FeistelPermutation(bits, new byte[16]);
+            boolean[] seen = new boolean[1 << bits];
+            for (long i = 0; i < seen.length; i++) {
+                int value = (int) permutation.permute(i);
+                assertFalse(seen[value]);
+                seen[value] = true;
+            }
+        }
+    }
 }
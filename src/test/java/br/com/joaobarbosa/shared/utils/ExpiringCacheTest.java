@@ -0,0 +1,57 @@
+package br.com.joaobarbosa.shared.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    @DisplayName("Deve devolver o valor até o instante de expiração")
+    void shouldExpireEntries() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, now::get);
+        cache.put("token", "admin", 2_000);
+
+        assertEquals("admin", cache.get("token"));
+        now.set(2_000);
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    @DisplayName("Não deve passar do tamanho máximo, removendo primeiro os vencidos")
+    void shouldStayBounded() {
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(8, now::get);
+        cache.put(0, 0, 1_500);
+        for (int i = 1; i < 8; i++) cache.put(i, i, 5_000);
+
+        now.set(1_600);
+        cache.put(8, 8, 5_000);
+        assertEquals(8, cache.size());
+        assertNull(cache.get(0));
+
+        for (int i = 9; i < 100; i++) cache.put(i, i, 5_000);
+        assertTrue(cache.size() <= 8);
+        assertEquals(Integer.valueOf(99), cache.get(99));
+    }
+
+    @Test
+    @DisplayName("Deve remover entradas invalidadas")
+    void shouldInvalidate() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, now::get);
+        cache.put("a", "1", 5_000);
+        cache.put("b", "2", 5_000);
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        cache.invalidateAll();
+        assertNull(cache.get("b"));
+    }
+}
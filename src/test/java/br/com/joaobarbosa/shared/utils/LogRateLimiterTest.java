@@ -0,0 +1,30 @@
+package br.com.joaobarbosa.shared.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogRateLimiterTest {
+    private final AtomicLong nanos = new AtomicLong(5_000_000_000L);
+
+    @Test
+    @DisplayName("Deve liberar só o limite por segundo e contar as linhas suprimidas")
+    void shouldLimitPerSecond() {
+        LogRateLimiter limiter = new LogRateLimiter(3, nanos::get);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) if (limiter.tryAcquire()) allowed++;
+        assertEquals(3, allowed);
+        assertEquals(7, limiter.drainSuppressed());
+        assertEquals(0, limiter.drainSuppressed());
+
+        nanos.addAndGet(999_000_000L);
+        assertFalse(limiter.tryAcquire());
+
+        nanos.addAndGet(1_000_000L);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(1, limiter.drainSuppressed());
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.joaobarbosa.shared.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+    private final AtomicLong now = new AtomicLong();
+    private final TimingWheel<Integer> wheel =
+            new TimingWheel<>(Duration.ofSeconds(1), Duration.ofMinutes(10), now::get);
+
+    private void elapse(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private List<Integer> advance() {
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(expired::add);
+        return expired;
+    }
+
+    @Test
+    @DisplayName("Deve expirar os itens só depois do prazo")
+    void shouldExpireAfterDeadline() {
+        wheel.schedule(1, Duration.ofSeconds(5));
+        wheel.schedule(2, Duration.ofSeconds(90));
+
+        elapse(Duration.ofSeconds(4));
+        assertEquals(List.of(), advance());
+        elapse(Duration.ofSeconds(1));
+        assertEquals(List.of(1), advance());
+        elapse(Duration.ofSeconds(85));
+        assertEquals(List.of(2), advance());
+    }
+
+    @Test
+    @DisplayName("Itens cancelados não devem expirar")
+    void shouldSkipCancelled() {
+        wheel.schedule(1, Duration.ofSeconds(2)).cancel();
+        wheel.schedule(2, Duration.ofSeconds(2));
+
+        elapse(Duration.ofSeconds(3));
+        assertEquals(List.of(2), advance());
+    }
+
+    @Test
+    @DisplayName("Prazos maiores que a roda devem dar voltas até vencer")
+    void shouldHandleDelaysBeyondHorizon() {
+        wheel.schedule(1, Duration.ofMinutes(45));
+
+        elapse(Duration.ofMinutes(44));
+        assertEquals(List.of(), advance());
+        elapse(Duration.ofMinutes(1));
+        assertEquals(List.of(1), advance());
+    }
+
+    @Test
+    @DisplayName("Deve expirar 100 mil reservas espalhadas pela janela")
+    void shouldExpireManyHolds() {
+        for (int i = 0; i < 100_000; i++) wheel.schedule(i, Duration.ofMillis(i * 6L));
+
+        int expired = 0;
+        for (int second = 0; second <= 600; second++) {
+            elapse(Duration.ofSeconds(1));
+            expired += advance().size();
+        }
+        assertEquals(100_000, expired);
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.joaobarbosa.shared.value_objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    @DisplayName("Deve retornar zero quando nada foi somado")
+    void shouldReturnZeroWhenEmpty() {
+        assertEquals(Money.ZERO, new MoneyAccumulator().toMoney());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado que reduce(Money::plus)")
+    void shouldMatchStreamReduce() {
+        List<Money> values =
+                List.of(
+                        Money.of(10),
+                        Money.of(0.15),
+                        Money.ofMajor(new BigDecimal("1.005")),
+                        Money.of(-3.5));
+
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        values.forEach(accumulator::add);
+
+        assertEquals(values.stream().reduce(Money.ZERO, Money::plus), accumulator.toMoney());
+    }
+
+    @Test
+    @DisplayName("addTimes deve arredondar cada parcela como Money.times")
+    void shouldRoundEachTermLikeTimes() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        accumulator.addTimes(Money.of(0.15), 0.5).addTimes(Money.of(0.15), 0.5);
+
+        assertEquals(Money.of(0.16), accumulator.toMoney());
+    }
+
+    @Test
+    @DisplayName("Deve continuar somando corretamente após estourar o long")
+    void shouldKeepSummingAfterOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        accumulator.add(max).add(max).subtract(max);
+
+        assertEquals(max.plus(max).minus(max), accumulator.toMoney());
+    }
+
+    @Test
+    @DisplayName("Não deve somar valores com moedas diferentes")
+    void shouldNotAddDifferentCurrencies() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        Money usd = Money.of(10, Currency.getInstance("USD"));
+
+        IllegalArgumentException ex =
+                assertThrows(IllegalArgumentException.class, () -> accumulator.add(usd));
+        assertEquals("Moedas diferentes: BRL vs USD", ex.getMessage());
+    }
+}
@@ -2,6 +2,11 @@ package br.com.joaobarbosa.shared.value_objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.util.Currency;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +51,21 @@ class MoneyTest {
         assertEquals("$ 10.50", money.toString());
     }
 
+    @Test
+    @DisplayName("Deve formatar valores negativos e com separador de milhar")
+    void shouldFormatNegativeAndGroupedValues() {
+        assertEquals("-R$ 1.234.567,50", Money.of(-1234567.5).toString());
+        assertEquals("$ 1,000.00", Money.of(1000, Currency.getInstance("USD")).toString());
+    }
+
+    @Test
+    @DisplayName("Deve escrever o valor formatado no StringBuilder informado")
+    void shouldFormatIntoCallerSuppliedBuilder() {
+        StringBuilder out = new StringBuilder("Total: ");
+        Money.of(10.5).formatTo(out);
+        assertEquals("Total: R$ 10,50", out.toString());
+    }
+
     // ============================================================================
     // =                          OPERAÇÕES BÁSICAS                                =
     // ============================================================================
@@ -204,6 +224,49 @@ class MoneyTest {
         assertEquals(Money.of(4.13), discount);
     }
 
+    // ============================================================================
+    // =                  REPRESENTAÇÃO COMPACTA (UNIDADES MENORES)               =
+    // ============================================================================
+
+    @Test
+    @DisplayName("Valores iguais devem ser equivalentes independente da factory usada")
+    void shouldBeEqualRegardlessOfFactory() {
+        Money fromMajor = Money.ofMajor(new BigDecimal("12.500000"));
+        Money fromMinor = Money.ofMinor(1250);
+
+        assertEquals(fromMinor, fromMajor);
+        assertEquals(fromMinor.hashCode(), fromMajor.hashCode());
+        assertEquals(new BigDecimal("12.5"), fromMinor.getAmount());
+    }
+
+    @Test
+    @DisplayName("Valores de 19 dígitos devem ser iguais vindos de ofMinor ou ofMajor")
+    void shouldKeepCanonicalFormBeyondCompactDigits() {
+        Money fromMinor = Money.ofMinor(1_000_000_000_000_000_000L);
+        Money fromMajor = Money.ofMajor(new BigDecimal("10000000000000000"));
+
+        assertEquals(fromMajor, fromMinor);
+        assertEquals(fromMajor.hashCode(), fromMinor.hashCode());
+        assertEquals(Money.ofMinor(-Long.MAX_VALUE), Money.ofMinor(Long.MAX_VALUE).negate());
+    }
+
+    @Test
+    @DisplayName("Meia-entrada deve arredondar HALF_UP na escala da moeda")
+    void shouldRoundHalfPriceHalfUp() {
+        assertEquals(Money.of(0.08), Money.of(0.15).times(0.5));
+        assertEquals(Money.of(-0.08), Money.of(-0.15).times(0.5));
+    }
+
+    @Test
+    @DisplayName("Deve recorrer ao BigDecimal quando a soma estoura o long")
+    void shouldFallBackToDecimalOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money result = max.plus(Money.ofMinor(Long.MAX_VALUE));
+
+        assertTrue(result.isGreaterThan(max));
+        assertThrows(ArithmeticException.class, result::toMinorUnits);
+    }
+
     // ============================================================================
     // =                     IGUALDADE / HASHCODE POR VALOR                        =
     // ============================================================================
@@ -221,4 +284,30 @@ class MoneyTest {
         assertNotEquals(a, c);
         assertNotEquals(a, d);
     }
+
+    @Test
+    @DisplayName("Deve sobreviver à serialização Java mantendo valor, moeda e igualdade")
+    void shouldRoundTripThroughJavaSerialization() throws Exception {
+        Money compact = Money.ofMajor(new BigDecimal("1234.56"), Currency.getInstance("USD"));
+        Money decimal = Money.ofMajor(new BigDecimal("10.12345"));
+
+        for (Money original : new Money[] {compact, decimal, Money.ZERO}) {
+            Money copy = roundTrip(original);
+            assertEquals(original, copy);
+            assertEquals(original.hashCode(), copy.hashCode());
+            assertEquals(original.getCurrencyCode(), copy.getCurrencyCode());
+            assertEquals(original.plus(original), copy.plus(original));
+        }
+    }
+
+    private static Money roundTrip(Money money) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(money);
+        }
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Money) in.readObject();
+        }
+    }
 }